@@ -0,0 +1,93 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// Thread-model comparison: same read-heavy mix at increasing concurrency.
+// Run once with platform threads and once with the virtual-threads profile (see README).
+const LEVELS = (__ENV.VUS_LEVELS || '100,1000,5000').split(',').map(Number);
+const STAGE_DURATION = __ENV.STAGE_DURATION || '60s';
+const STAGE_SECONDS = parseInt(STAGE_DURATION, 10);
+const PAUSE_SECONDS = 15;
+const MODE = __ENV.BENCH_MODE || 'platform';
+const BASE_URL = __ENV.BASE_URL || 'http://app:8080';
+const PRODUCTS = 100;
+
+const scenarios = {};
+const thresholds = {};
+LEVELS.forEach((vus, index) => {
+  const name = `vus_${vus}`;
+  scenarios[name] = {
+    executor: 'constant-vus',
+    vus: vus,
+    duration: STAGE_DURATION,
+    startTime: `${index * (STAGE_SECONDS + PAUSE_SECONDS)}s`,
+    gracefulStop: '10s',
+  };
+  // Thresholds on tagged sub-metrics make k6 report each level separately
+  thresholds[`http_req_duration{scenario:${name}}`] = ['p(99)>=0'];
+  thresholds[`http_reqs{scenario:${name}}`] = ['count>=0'];
+  thresholds[`http_req_failed{scenario:${name}}`] = ['rate>=0'];
+});
+
+export const options = {
+  scenarios: scenarios,
+  thresholds: thresholds,
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  setupTimeout: '120s',
+};
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < PRODUCTS; i++) {
+    const res = http.post(`${BASE_URL}/products`,
+      JSON.stringify({ name: `Concurrency ${MODE} ${Date.now()}-${i}` }),
+      { headers: { 'Content-Type': 'application/json' } });
+    if (res.status !== 201) {
+      continue;
+    }
+    const id = JSON.parse(res.body).id;
+    ids.push(id);
+    ['EUR', 'USD'].forEach((currency) => {
+      http.post(`${BASE_URL}/products/${id}/prices`,
+        JSON.stringify({ value: 49.99, currency: currency, initDate: '2025-01-01', endDate: null }),
+        { headers: { 'Content-Type': 'application/json' } });
+    });
+  }
+  return { ids: ids };
+}
+
+export default function (data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const roll = Math.random();
+  let res;
+  if (roll < 0.4) {
+    res = http.get(`${BASE_URL}/products/${id}`, { tags: { name: 'GetProduct' } });
+  } else if (roll < 0.7) {
+    res = http.get(`${BASE_URL}/products/${id}/prices`, { tags: { name: 'GetPrices' } });
+  } else {
+    res = http.get(`${BASE_URL}/products/${id}/prices?date=2025-06-15&currency=EUR`, { tags: { name: 'GetCurrentPrice' } });
+  }
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  const rows = LEVELS.map((vus) => {
+    const name = `vus_${vus}`;
+    const reqs = data.metrics[`http_reqs{scenario:${name}}`];
+    const duration = data.metrics[`http_req_duration{scenario:${name}}`];
+    const failed = data.metrics[`http_req_failed{scenario:${name}}`];
+    return {
+      mode: MODE,
+      vus: vus,
+      requestsPerSecond: reqs ? reqs.values.count / STAGE_SECONDS : 0,
+      p99Ms: duration ? duration.values['p(99)'] : null,
+      errorRate: failed ? failed.values.rate : null,
+    };
+  });
+  const table = rows.map((r) =>
+    `${r.mode}\t${r.vus}\t${r.requestsPerSecond.toFixed(1)} req/s\tp99 ${r.p99Ms === null ? '-' : r.p99Ms.toFixed(1)} ms\terrors ${(100 * (r.errorRate || 0)).toFixed(2)}%`
+  ).join('\n');
+  return {
+    stdout: `\nmode\tvus\tthroughput\tlatency\terrors\n${table}\n`,
+    [`/tmp/k6-concurrency-${MODE}.json`]: JSON.stringify(rows, null, 2),
+  };
+}
@@ -0,0 +1,32 @@
+package com.mango.products.benchmark;
+
+import com.mango.products.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Fixture data shared by the benchmarks: one-day prices for a single product, newest first
+ * (the order the repository returns them).
+ */
+final class BenchmarkPrices {
+
+    static final Long PRODUCT_ID = 1L;
+    static final Currency EUR = Currency.getInstance("EUR");
+    static final LocalDate START = LocalDate.of(2000, 1, 1);
+
+    private BenchmarkPrices() {
+    }
+
+    static List<Price> dailyPrices(int count) {
+        List<Price> prices = new ArrayList<>(count);
+        for (int day = count - 1; day >= 0; day--) {
+            LocalDate date = START.plusDays(day);
+            prices.add(Price.of(day + 1L, PRODUCT_ID, BigDecimal.valueOf(10 + day % 90, 2).add(BigDecimal.TEN), EUR, date, date));
+        }
+        return prices;
+    }
+}
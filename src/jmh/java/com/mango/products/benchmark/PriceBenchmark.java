@@ -0,0 +1,56 @@
+package com.mango.products.benchmark;
+
+import com.mango.products.domain.model.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceBenchmark {
+
+    private Price closed;
+    private Price closedOverlapping;
+    private Price closedDisjoint;
+    private Price openEnded;
+
+    @Setup
+    public void setUp() {
+        Currency eur = Currency.getInstance("EUR");
+        closed = Price.of(1L, 1L, BigDecimal.valueOf(10.00), eur, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        closedOverlapping = Price.of(2L, 1L, BigDecimal.valueOf(12.00), eur, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 15));
+        closedDisjoint = Price.of(3L, 1L, BigDecimal.valueOf(12.00), eur, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+        openEnded = Price.of(4L, 1L, BigDecimal.valueOf(15.00), eur, LocalDate.of(2025, 3, 1), null);
+    }
+
+    @Benchmark
+    public boolean overlapsClosedRanges() {
+        return closed.overlaps(closedOverlapping);
+    }
+
+    @Benchmark
+    public boolean overlapsDisjointRanges() {
+        return closed.overlaps(closedDisjoint);
+    }
+
+    @Benchmark
+    public boolean overlapsOpenEnded() {
+        return openEnded.overlaps(closedDisjoint);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mango.products.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mango.products.domain.model.Price;
+import com.mango.products.infrastructure.rest.dto.GetProductPrices200Response;
+import com.mango.products.infrastructure.rest.mapper.PriceDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers the response side of {@code GET /products/{id}/prices}: DTO mapping and Jackson
+ * serialization of {@code ProductPriceHistoryResponse}, with the same date handling Spring Boot configures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceHistoryResponseBenchmark {
+
+    @Param({"10", "1000"})
+    private int prices;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<Price> history;
+    private GetProductPrices200Response response;
+
+    @Setup
+    public void setUp() {
+        history = BenchmarkPrices.dailyPrices(prices);
+        response = toHistoryResponse();
+    }
+
+    @Benchmark
+    public GetProductPrices200Response toHistoryResponse() {
+        return PriceDtoMapper.toHistoryResponse(BenchmarkPrices.PRODUCT_ID, "Zapatillas deportivas",
+                "Modelo 2025 edición limitada", history);
+    }
+
+    @Benchmark
+    public byte[] serializeHistoryResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeHistoryResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toHistoryResponse());
+    }
+}
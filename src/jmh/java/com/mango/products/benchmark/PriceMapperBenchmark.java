@@ -0,0 +1,45 @@
+package com.mango.products.benchmark;
+
+import com.mango.products.domain.model.Price;
+import com.mango.products.infrastructure.persistence.entity.PriceEntity;
+import com.mango.products.infrastructure.persistence.mapper.PriceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceMapperBenchmark {
+
+    private Price price;
+    private PriceEntity entity;
+
+    @Setup
+    public void setUp() {
+        price = BenchmarkPrices.dailyPrices(1).get(0);
+        entity = PriceMapper.toEntity(price);
+    }
+
+    @Benchmark
+    public Price toDomain() {
+        return PriceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public PriceEntity toEntity() {
+        return PriceMapper.toEntity(price);
+    }
+}
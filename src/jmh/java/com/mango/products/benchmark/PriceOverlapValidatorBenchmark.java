@@ -0,0 +1,56 @@
+package com.mango.products.benchmark;
+
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceTimeline;
+import com.mango.products.domain.service.PriceOverlapValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceOverlapValidatorBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int existingPrices;
+
+    private final PriceOverlapValidator validator = new PriceOverlapValidator();
+    private List<Price> existing;
+    private PriceTimeline timeline;
+    private Price newPrice;
+
+    @Setup
+    public void setUp() {
+        existing = BenchmarkPrices.dailyPrices(existingPrices);
+        timeline = PriceTimeline.of(existing);
+        // Starts the day after the last existing price: never conflicts, so every price is considered
+        newPrice = Price.create(BenchmarkPrices.PRODUCT_ID, BigDecimal.TEN, BenchmarkPrices.EUR,
+                BenchmarkPrices.START.plusDays(existingPrices), null);
+    }
+
+    @Benchmark
+    public void validateAgainstList() {
+        validator.validate(newPrice, existing);
+    }
+
+    @Benchmark
+    public void validateAgainstTimeline() {
+        validator.validateAgainst(newPrice, timeline);
+    }
+}
@@ -0,0 +1,94 @@
+package com.mango.products.benchmark;
+
+import com.mango.products.ProductsApplication;
+import com.mango.products.domain.model.Price;
+import com.mango.products.infrastructure.persistence.adapter.JdbcPriceReadAdapter;
+import com.mango.products.infrastructure.persistence.adapter.PriceRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA entity path vs JDBC row mapping for a single-product history read, against a real
+ * PostgreSQL (Testcontainers, needs Docker). Both run in a read-only transaction, like the use cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceReadPathBenchmark {
+
+    @Param({"10", "1000"})
+    private int pricesPerProduct;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private PriceRepositoryAdapter jpaPath;
+    private JdbcPriceReadAdapter jdbcPath;
+    private Long productId;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(ProductsApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "logging.level.com.mango=WARN")
+            .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        productId = jdbcTemplate.queryForObject(
+            "INSERT INTO products (name) VALUES ('Benchmark product') RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO product_prices (product_id, value, currency, init_date, end_date) " +
+            "SELECT ?, 10 + day % 90, 'EUR', DATE '2000-01-01' + day, DATE '2000-01-01' + day " +
+            "FROM generate_series(0, ? - 1) AS day", productId, pricesPerProduct);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        jpaPath = context.getBean(PriceRepositoryAdapter.class);
+        jdbcPath = new JdbcPriceReadAdapter(jpaPath, context.getBean(JdbcClient.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<Price> jpaFindByProductId() {
+        return readOnlyTransaction.execute(status -> jpaPath.findByProductId(productId));
+    }
+
+    @Benchmark
+    public List<Price> jdbcFindByProductId() {
+        return readOnlyTransaction.execute(status -> jdbcPath.findByProductId(productId));
+    }
+}
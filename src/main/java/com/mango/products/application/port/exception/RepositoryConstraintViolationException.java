@@ -2,8 +2,29 @@ package com.mango.products.application.port.exception;
 
 public class RepositoryConstraintViolationException extends RuntimeException {
 
+    /**
+     * Kind of database constraint that rejected the write.
+     */
+    public enum Kind {
+        FOREIGN_KEY,
+        EXCLUSION,
+        UNIQUE,
+        CHECK,
+        OTHER
+    }
+
+    private final Kind kind;
+
     public RepositoryConstraintViolationException(String message, Throwable cause) {
+        this(message, Kind.OTHER, cause);
+    }
+
+    public RepositoryConstraintViolationException(String message, Kind kind, Throwable cause) {
         super(message, cause);
+        this.kind = kind;
     }
-}
 
+    public Kind getKind() {
+        return kind;
+    }
+}
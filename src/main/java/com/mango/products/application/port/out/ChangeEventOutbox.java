@@ -0,0 +1,22 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.ChangeEvent;
+
+import java.util.List;
+
+/**
+ * Records change events for the change feed. Called inside the writing transaction, so an event
+ * is stored if and only if the change it describes is committed.
+ */
+public interface ChangeEventOutbox {
+
+    void append(List<ChangeEvent> events);
+
+    default void append(ChangeEvent event) {
+        append(List.of(event));
+    }
+
+    static ChangeEventOutbox disabled() {
+        return events -> { };
+    }
+}
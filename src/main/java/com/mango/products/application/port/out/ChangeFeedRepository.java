@@ -0,0 +1,15 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.ChangeEvent;
+
+import java.util.List;
+
+public interface ChangeFeedRepository {
+
+    /**
+     * Loads published events with an offset greater than {@code offset}, in offset order.
+     * Offsets are only published in increasing order, so reading on from the last offset seen
+     * never skips an event.
+     */
+    List<ChangeEvent> findPublishedAfter(long offset, int limit);
+}
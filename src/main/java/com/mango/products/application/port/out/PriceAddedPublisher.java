@@ -0,0 +1,14 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.Price;
+
+/**
+ * Pushes newly added prices to live subscribers of their product on this instance.
+ * <p>
+ * May be called inside the writing transaction; implementations must only deliver the price
+ * once that transaction commits.
+ */
+public interface PriceAddedPublisher {
+
+    void priceAdded(Price price);
+}
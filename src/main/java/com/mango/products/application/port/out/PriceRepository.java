@@ -1,21 +1,60 @@
 package com.mango.products.application.port.out;
 
 import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PriceRepository {
 
     Price save(Price price);
 
+    /**
+     * Inserts all the prices in JDBC batches. Generated IDs are not returned.
+     *
+     * @throws com.mango.products.application.port.exception.RepositoryConstraintViolationException
+     *         if any row violates a constraint
+     */
+    void saveAll(List<Price> prices);
+
     List<Price> findByProductId(Long productId);
 
+    List<Price> findByProductIds(Collection<Long> productIds);
+
     List<Price> findByProductIdAndCurrency(Long productId, String currencyCode);
 
     List<Price> findByProductIdAndDate(Long productId, LocalDate date);
 
     Optional<Price> findByProductIdAndCurrencyAndDate(Long productId, String currencyCode, LocalDate date);
-}
 
+    /**
+     * Prices active on the date for many products, in a single statement.
+     * Only existing products are keys of the result, mapped to an empty list when they have no
+     * active price.
+     *
+     * @param currencyCode optional currency filter, {@code null} for every currency
+     */
+    Map<Long, List<Price>> findActiveByProductIds(Collection<Long> productIds, String currencyCode, LocalDate date);
+
+    /**
+     * Keyset page of a product history, newest first ({@code initDate}, {@code id} descending).
+     *
+     * @param currencyCode optional currency filter, {@code null} for every currency
+     * @param after        optional cursor, {@code null} for the first page
+     * @param limit        maximum number of prices to return
+     */
+    List<Price> findPageByProductId(Long productId, String currencyCode, PriceCursor after, int limit);
+
+    /**
+     * Streams the whole history of a product, newest first, without materializing it.
+     * Must be called inside a transaction; rows are read through a database cursor.
+     *
+     * @param currencyCode optional currency filter, {@code null} for every currency
+     */
+    void forEachByProductId(Long productId, String currencyCode, Consumer<Price> consumer);
+}
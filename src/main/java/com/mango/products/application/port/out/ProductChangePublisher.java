@@ -0,0 +1,24 @@
+package com.mango.products.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Announces that a product, or its prices, changed, so other application instances can drop
+ * what they cached about it.
+ * <p>
+ * Called inside the writing transaction; implementations must only make the change visible to
+ * other instances once that transaction commits.
+ */
+public interface ProductChangePublisher {
+
+    void productsChanged(Collection<Long> productIds);
+
+    default void productChanged(Long productId) {
+        productsChanged(List.of(productId));
+    }
+
+    static ProductChangePublisher noop() {
+        return productIds -> { };
+    }
+}
@@ -0,0 +1,20 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.ProductPriceHistory;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Loads a product and its prices in a single round trip.
+ * An empty result means the product does not exist; a product without matching prices
+ * is returned with an empty price list.
+ */
+public interface ProductPriceHistoryRepository {
+
+    Optional<ProductPriceHistory> findByProductId(Long productId);
+
+    Optional<ProductPriceHistory> findByProductIdAndCurrency(Long productId, String currencyCode);
+
+    Optional<ProductPriceHistory> findByProductIdAndDate(Long productId, LocalDate date);
+}
@@ -2,7 +2,10 @@ package com.mango.products.application.port.out;
 
 import com.mango.products.domain.model.Product;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductRepository {
 
@@ -11,5 +14,26 @@ public interface ProductRepository {
     Optional<Product> findById(Long id);
 
     boolean existsById(Long id);
+
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Loads the existing products among the given IDs, in no particular order.
+     */
+    List<Product> findAllById(Collection<Long> ids);
+
+    /**
+     * Reads only the product's version, without loading the product.
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Bumps the product's version, locking its row until the transaction ends.
+     *
+     * @return {@code false} if the product does not exist
+     */
+    boolean incrementVersion(Long id);
+
+    void incrementVersions(Collection<Long> ids);
 }
 
@@ -0,0 +1,23 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.ChangeEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link ChangeEventOutbox}, to be subscribed to inside the writing
+ * reactive transaction.
+ */
+public interface ReactiveChangeEventOutbox {
+
+    Mono<Void> append(List<ChangeEvent> events);
+
+    default Mono<Void> append(ChangeEvent event) {
+        return append(List.of(event));
+    }
+
+    static ReactiveChangeEventOutbox disabled() {
+        return events -> Mono.empty();
+    }
+}
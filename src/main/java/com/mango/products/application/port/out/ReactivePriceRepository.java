@@ -0,0 +1,24 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.Price;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking counterpart of {@link PriceRepository}; errors are signalled with the same
+ * port exceptions.
+ */
+public interface ReactivePriceRepository {
+
+    Mono<Price> save(Price price);
+
+    Flux<Price> findByProductId(Long productId);
+
+    Flux<Price> findByProductIdAndCurrency(Long productId, String currencyCode);
+
+    Flux<Price> findByProductIdAndDate(Long productId, LocalDate date);
+
+    Mono<Price> findByProductIdAndCurrencyAndDate(Long productId, String currencyCode, LocalDate date);
+}
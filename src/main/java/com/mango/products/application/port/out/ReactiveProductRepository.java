@@ -0,0 +1,22 @@
+package com.mango.products.application.port.out;
+
+import com.mango.products.domain.model.Product;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ProductRepository}; errors are signalled with the same
+ * port exceptions.
+ */
+public interface ReactiveProductRepository {
+
+    Mono<Product> save(Product product);
+
+    Mono<Product> findById(Long id);
+
+    Mono<Boolean> existsById(Long id);
+
+    /**
+     * @see ProductRepository#incrementVersion(Long)
+     */
+    Mono<Boolean> incrementVersion(Long id);
+}
@@ -1,14 +1,19 @@
 package com.mango.products.application.usecase;
 
 import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.PriceAddedPublisher;
 import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductChangePublisher;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.exception.InvalidCurrencyException;
-import com.mango.products.domain.exception.PriceOverlapException;
 import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.ChangeEvent;
 import com.mango.products.domain.model.Price;
-import com.mango.products.domain.model.Product;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
 import com.mango.products.domain.service.PriceOverlapValidator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,43 +24,82 @@ import java.util.List;
 
 @Service
 @Transactional
+@Timed(value = "products.usecase", histogram = true)
 public class AddPriceToProductUseCase {
 
     private final ProductRepository productRepository;
     private final PriceRepository priceRepository;
     private final PriceOverlapValidator overlapValidator;
+    private final PriceHistoryFreezePolicy freezePolicy;
+    private final ProductChangePublisher changePublisher;
+    private final ChangeEventOutbox outbox;
+    private final PriceAddedPublisher priceAddedPublisher;
+    private final PriceWriteMode writeMode;
 
     public AddPriceToProductUseCase(
             ProductRepository productRepository,
             PriceRepository priceRepository,
-            PriceOverlapValidator overlapValidator) {
+            PriceOverlapValidator overlapValidator,
+            PriceHistoryFreezePolicy freezePolicy,
+            ProductChangePublisher changePublisher,
+            ChangeEventOutbox outbox,
+            PriceAddedPublisher priceAddedPublisher,
+            @Value("${products.prices.write-mode:VALIDATE_FIRST}") PriceWriteMode writeMode) {
         this.productRepository = productRepository;
         this.priceRepository = priceRepository;
         this.overlapValidator = overlapValidator;
+        this.freezePolicy = freezePolicy;
+        this.changePublisher = changePublisher;
+        this.outbox = outbox;
+        this.priceAddedPublisher = priceAddedPublisher;
+        this.writeMode = writeMode;
     }
 
     public Price execute(Long productId, BigDecimal value, String currencyCode, LocalDate initDate, LocalDate endDate) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+        if (writeMode == PriceWriteMode.CONSTRAINT_FIRST) {
+            // INSERT first: the foreign key and the exclusion constraint do the validation
+            Price newPrice = Price.create(productId, value, toCurrency(currencyCode), initDate, endDate);
+            freezePolicy.validate(newPrice);
+            Price saved = save(newPrice);
+            productRepository.incrementVersion(productId);
+            return saved;
+        }
 
-        // Validate currency code using Java's Currency API
-        Currency currency;
-        try {
-            currency = java.util.Currency.getInstance(currencyCode);
-        } catch (IllegalArgumentException e) {
-            throw new InvalidCurrencyException(currencyCode);
+        // Bumping the version doubles as the existence check and locks the product row, so
+        // concurrent additions to the same product are validated one after the other
+        if (!productRepository.incrementVersion(productId)) {
+            throw new ProductNotFoundException(productId);
         }
 
-        Price newPrice = Price.create(product.getId(), value, currency, initDate, endDate);
+        Price newPrice = Price.create(productId, value, toCurrency(currencyCode), initDate, endDate);
+        freezePolicy.validate(newPrice);
 
         // Validate overlap only for prices with the same currency
         List<Price> existingPrices = priceRepository.findByProductIdAndCurrency(productId, currencyCode);
         overlapValidator.validate(newPrice, existingPrices);
 
+        return save(newPrice);
+    }
+
+    private Price save(Price newPrice) {
+        Price saved;
         try {
-            return priceRepository.save(newPrice);
+            saved = priceRepository.save(newPrice);
         } catch (RepositoryConstraintViolationException e) {
-            throw new PriceOverlapException(productId, initDate, endDate);
+            throw PriceConstraintViolations.toDomainException(e, newPrice);
+        }
+        changePublisher.productChanged(newPrice.getProductId());
+        outbox.append(ChangeEvent.priceAdded(saved));
+        priceAddedPublisher.priceAdded(saved);
+        return saved;
+    }
+
+    private static Currency toCurrency(String currencyCode) {
+        // Validate currency code using Java's Currency API
+        try {
+            return Currency.getInstance(currencyCode);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCurrencyException(currencyCode);
         }
     }
 }
\ No newline at end of file
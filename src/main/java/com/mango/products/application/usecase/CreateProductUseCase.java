@@ -1,28 +1,43 @@
 package com.mango.products.application.usecase;
 
 import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.ProductChangePublisher;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.exception.ProductAlreadyExistsException;
+import com.mango.products.domain.model.ChangeEvent;
 import com.mango.products.domain.model.Product;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
+@Timed(value = "products.usecase", histogram = true)
 public class CreateProductUseCase {
 
     private final ProductRepository productRepository;
+    private final ProductChangePublisher changePublisher;
+    private final ChangeEventOutbox outbox;
 
-    public CreateProductUseCase(ProductRepository productRepository) {
+    public CreateProductUseCase(ProductRepository productRepository, ProductChangePublisher changePublisher,
+                                ChangeEventOutbox outbox) {
         this.productRepository = productRepository;
+        this.changePublisher = changePublisher;
+        this.outbox = outbox;
     }
 
     public Product execute(String name, String description) {
         Product product = Product.create(name, description);
+        Product saved;
         try {
-            return productRepository.save(product);
+            saved = productRepository.save(product);
         } catch (RepositoryConstraintViolationException e) {
             throw new ProductAlreadyExistsException(name);
         }
+        // Other instances may remember the new ID as absent
+        changePublisher.productChanged(saved.getId());
+        outbox.append(ChangeEvent.productCreated(saved));
+        return saved;
     }
 }
\ No newline at end of file
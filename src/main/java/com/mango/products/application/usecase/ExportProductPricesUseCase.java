@@ -0,0 +1,36 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "products.usecase", histogram = true)
+public class ExportProductPricesUseCase {
+
+    private final ProductRepository productRepository;
+    private final PriceRepository priceRepository;
+
+    public ExportProductPricesUseCase(ProductRepository productRepository, PriceRepository priceRepository) {
+        this.productRepository = productRepository;
+        this.priceRepository = priceRepository;
+    }
+
+    /**
+     * Pushes every price of the product (optionally in one currency), newest first, to the consumer
+     * while it is read from the database. The consumer runs inside the read transaction.
+     */
+    public void exportPrices(Long productId, String currencyCode, Consumer<Price> consumer) {
+        if (!productRepository.existsById(productId)) {
+            throw new ProductNotFoundException(productId);
+        }
+        priceRepository.forEachByProductId(productId, currencyCode, consumer);
+    }
+}
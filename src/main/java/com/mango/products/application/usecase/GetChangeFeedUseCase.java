@@ -0,0 +1,41 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.ChangeFeedRepository;
+import com.mango.products.domain.model.ChangeEvent;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Reads the change feed from an offset, so downstream services can sync incrementally by
+ * passing back the offset of the last event they processed.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "products.usecase", histogram = true)
+public class GetChangeFeedUseCase {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ChangeFeedRepository changeFeedRepository;
+
+    public GetChangeFeedUseCase(ChangeFeedRepository changeFeedRepository) {
+        this.changeFeedRepository = changeFeedRepository;
+    }
+
+    /**
+     * @param after offset of the last event already processed, 0 to read from the beginning
+     * @param limit maximum number of events to return, at most {@value #MAX_LIMIT}
+     */
+    public List<ChangeEvent> execute(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return changeFeedRepository.findPublishedAfter(after, limit);
+    }
+}
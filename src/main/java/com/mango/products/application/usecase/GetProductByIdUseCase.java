@@ -3,11 +3,18 @@ package com.mango.products.application.usecase;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.exception.ProductNotFoundException;
 import com.mango.products.domain.model.Product;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * A single lookup needs no transaction of its own: outside one, it can be resolved by the product
+ * lookup batcher without holding a pooled connection while it waits.
+ */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+@Timed(value = "products.usecase", histogram = true)
 public class GetProductByIdUseCase {
 
     private final ProductRepository productRepository;
@@ -0,0 +1,73 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductPriceHistoryRepository;
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
+import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
+import com.mango.products.domain.model.ProductPriceHistoryPage;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "products.usecase", histogram = true)
+public class GetProductPriceHistoryUseCase {
+
+    private final ProductPriceHistoryRepository historyRepository;
+    private final ProductRepository productRepository;
+    private final PriceRepository priceRepository;
+
+    public GetProductPriceHistoryUseCase(ProductPriceHistoryRepository historyRepository,
+                                         ProductRepository productRepository,
+                                         PriceRepository priceRepository) {
+        this.historyRepository = historyRepository;
+        this.productRepository = productRepository;
+        this.priceRepository = priceRepository;
+    }
+
+    public ProductPriceHistory getHistory(Long productId) {
+        return historyRepository.findByProductId(productId)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    public ProductPriceHistory getHistoryByCurrency(Long productId, String currencyCode) {
+        return historyRepository.findByProductIdAndCurrency(productId, currencyCode)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    public ProductPriceHistory getPricesOnDate(Long productId, LocalDate date) {
+        return historyRepository.findByProductIdAndDate(productId, date)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    /**
+     * Returns one keyset page of the history, newest first.
+     *
+     * @param currencyCode optional currency filter
+     * @param after        cursor returned by the previous page, {@code null} for the first one
+     */
+    public ProductPriceHistoryPage getHistoryPage(Long productId, String currencyCode, PriceCursor after, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be greater than zero");
+        }
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        // Fetch one extra row to know whether there is a next page
+        List<Price> prices = priceRepository.findPageByProductId(productId, currencyCode, after, limit + 1);
+        PriceCursor nextCursor = null;
+        if (prices.size() > limit) {
+            prices = prices.subList(0, limit);
+            nextCursor = PriceCursor.after(prices.get(limit - 1));
+        }
+        return ProductPriceHistoryPage.of(ProductPriceHistory.of(product, prices), nextCursor);
+    }
+}
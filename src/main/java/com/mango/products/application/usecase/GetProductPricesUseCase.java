@@ -3,16 +3,22 @@ package com.mango.products.application.usecase;
 import com.mango.products.application.port.out.PriceRepository;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.CurrentPriceLookup;
 import com.mango.products.domain.model.Price;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "products.usecase", histogram = true)
 public class GetProductPricesUseCase {
 
     private final ProductRepository productRepository;
@@ -43,6 +49,21 @@ public class GetProductPricesUseCase {
         return priceRepository.findByProductIdAndCurrencyAndDate(productId, currencyCode, date);
     }
 
+    /**
+     * Looks up the prices of many products on a date with a single repository call.
+     * Each distinct product gets one result, in request order, telling apart unknown products
+     * from products without a price on that date.
+     */
+    public List<CurrentPriceLookup> getCurrentPricesForProducts(Collection<Long> productIds, String currencyCode, LocalDate date) {
+        LinkedHashSet<Long> distinctIds = new LinkedHashSet<>(productIds);
+        Map<Long, List<Price>> activePrices = priceRepository.findActiveByProductIds(distinctIds, currencyCode, date);
+        return distinctIds.stream()
+                .map(productId -> activePrices.containsKey(productId)
+                        ? CurrentPriceLookup.of(productId, activePrices.get(productId))
+                        : CurrentPriceLookup.productNotFound(productId))
+                .toList();
+    }
+
     private void verifyProductExists(Long productId) {
         if (!productRepository.existsById(productId)) {
             throw new ProductNotFoundException(productId);
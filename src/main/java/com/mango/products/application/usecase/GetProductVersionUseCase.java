@@ -0,0 +1,28 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the version of a product without loading it or its prices, so conditional requests can
+ * be answered before any representation is built.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = "products.usecase", histogram = true)
+public class GetProductVersionUseCase {
+
+    private final ProductRepository productRepository;
+
+    public GetProductVersionUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public long execute(Long productId) {
+        return productRepository.findVersionById(productId)
+            .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+}
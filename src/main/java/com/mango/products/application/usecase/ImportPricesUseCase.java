@@ -0,0 +1,123 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.FrozenPriceHistoryException;
+import com.mango.products.domain.exception.InvalidCurrencyException;
+import com.mango.products.domain.exception.PriceImportConflictException;
+import com.mango.products.domain.exception.PriceOverlapException;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceImportBatch;
+import com.mango.products.domain.model.PriceTimeline;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import com.mango.products.domain.service.PriceOverlapValidator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@Timed(value = "products.usecase", histogram = true)
+public class ImportPricesUseCase {
+
+    private final ProductRepository productRepository;
+    private final PriceRepository priceRepository;
+    private final PriceHistoryFreezePolicy freezePolicy;
+    private final PriceOverlapValidator overlapValidator;
+    private final ProductChangePublisher changePublisher;
+    private final ChangeEventOutbox outbox;
+
+    public ImportPricesUseCase(ProductRepository productRepository, PriceRepository priceRepository,
+                               PriceHistoryFreezePolicy freezePolicy, PriceOverlapValidator overlapValidator,
+                               ProductChangePublisher changePublisher, ChangeEventOutbox outbox) {
+        this.productRepository = productRepository;
+        this.priceRepository = priceRepository;
+        this.freezePolicy = freezePolicy;
+        this.overlapValidator = overlapValidator;
+        this.changePublisher = changePublisher;
+        this.outbox = outbox;
+    }
+
+    /**
+     * Validates every row in memory (product, currency, dates, history freeze and overlaps with
+     * stored prices and with the previous rows) and inserts the valid ones in batches. Stored prices are
+     * indexed into one {@link PriceTimeline} per product and currency, so each row is checked against
+     * them in O(log n). Invalid rows are reported and skipped; they never prevent the valid ones from
+     * being imported.
+     *
+     * @throws PriceImportConflictException if a concurrent write makes the insert violate a
+     *         constraint, in which case nothing is imported
+     */
+    public PriceImportResult execute(List<PriceImportRow> rows) {
+        Set<Long> requestedIds = rows.stream()
+                .map(PriceImportRow::productId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingIds = productRepository.findExistingIds(requestedIds);
+        Map<Long, Map<Currency, PriceTimeline>> storedTimelines = priceRepository.findByProductIds(existingIds).stream()
+                .collect(Collectors.groupingBy(Price::getProductId, Collectors.groupingBy(Price::getCurrency,
+                        Collectors.collectingAndThen(Collectors.toList(), PriceTimeline::of))));
+        PriceImportBatch batch = PriceImportBatch.empty();
+
+        List<PriceImportResult.RowError> errors = new ArrayList<>();
+        for (int index = 0; index < rows.size(); index++) {
+            PriceImportRow row = rows.get(index);
+            try {
+                Price price = toPrice(row, existingIds);
+                overlapValidator.validateAgainst(price, storedTimelines
+                        .getOrDefault(price.getProductId(), Map.of())
+                        .getOrDefault(price.getCurrency(), PriceTimeline.empty()));
+                batch.add(price);
+            } catch (ProductNotFoundException | InvalidCurrencyException | FrozenPriceHistoryException
+                     | PriceOverlapException | IllegalArgumentException e) {
+                errors.add(new PriceImportResult.RowError(index, row.productId(), e.getMessage()));
+            }
+        }
+
+        try {
+            priceRepository.saveAll(batch.getAccepted());
+        } catch (RepositoryConstraintViolationException e) {
+            throw new PriceImportConflictException(rows.size());
+        }
+        Set<Long> changedIds = batch.getAccepted().stream()
+                .map(Price::getProductId)
+                .collect(Collectors.toSet());
+        productRepository.incrementVersions(changedIds);
+        changePublisher.productsChanged(changedIds);
+        outbox.append(changedIds.stream()
+                .map(ChangeEvent::pricesImported)
+                .toList());
+        return new PriceImportResult(rows.size(), batch.size(), errors);
+    }
+
+    private Price toPrice(PriceImportRow row, Set<Long> existingIds) {
+        if (row.value() == null || row.currencyCode() == null || row.initDate() == null) {
+            throw new IllegalArgumentException("Price value, currency and init date are required");
+        }
+        if (!existingIds.contains(row.productId())) {
+            throw new ProductNotFoundException(row.productId());
+        }
+        Currency currency;
+        try {
+            currency = Currency.getInstance(row.currencyCode());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCurrencyException(row.currencyCode());
+        }
+        Price price = Price.create(row.productId(), row.value(), currency, row.initDate(), row.endDate());
+        freezePolicy.validate(price);
+        return price;
+    }
+}
@@ -0,0 +1,32 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.domain.exception.DuplicatePriceException;
+import com.mango.products.domain.exception.InvalidPriceException;
+import com.mango.products.domain.exception.PriceOverlapException;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+
+/**
+ * Maps a constraint that rejected a new price to the domain error it stands for, shared by the
+ * blocking and reactive add-price use cases.
+ */
+final class PriceConstraintViolations {
+
+    private PriceConstraintViolations() {
+    }
+
+    /**
+     * @return the domain exception, or the original one when the constraint is unknown (a server error)
+     */
+    static RuntimeException toDomainException(RepositoryConstraintViolationException e, Price newPrice) {
+        return switch (e.getKind()) {
+            case FOREIGN_KEY -> new ProductNotFoundException(newPrice.getProductId());
+            case EXCLUSION -> new PriceOverlapException(newPrice.getProductId(), newPrice.getInitDate(), newPrice.getEndDate());
+            case UNIQUE -> new DuplicatePriceException(newPrice.getProductId(), newPrice.getInitDate(), newPrice.getEndDate());
+            // ck_prices_dates or ck_currency_iso4217, normally caught by the domain before the INSERT
+            case CHECK -> new InvalidPriceException(newPrice.getProductId(), "rejected by a data check constraint");
+            case OTHER -> e;
+        };
+    }
+}
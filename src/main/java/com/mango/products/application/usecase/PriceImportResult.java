@@ -0,0 +1,22 @@
+package com.mango.products.application.usecase;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many rows were written and why the others were rejected.
+ *
+ * @param errors rejected rows, by position in the request
+ */
+public record PriceImportResult(int received, int imported, List<RowError> errors) {
+
+    public PriceImportResult {
+        errors = List.copyOf(errors);
+    }
+
+    public int rejected() {
+        return errors.size();
+    }
+
+    public record RowError(int index, Long productId, String message) {
+    }
+}
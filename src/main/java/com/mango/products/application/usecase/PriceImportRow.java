@@ -0,0 +1,10 @@
+package com.mango.products.application.usecase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One price of a bulk import, as received.
+ */
+public record PriceImportRow(Long productId, BigDecimal value, String currencyCode, LocalDate initDate, LocalDate endDate) {
+}
@@ -0,0 +1,24 @@
+package com.mango.products.application.usecase;
+
+/**
+ * How {@link AddPriceToProductUseCase} guards a new price.
+ * <p>
+ * Statement counts are for the price itself; the change event outbox and cross-instance cache
+ * invalidation each add one more while enabled.
+ */
+public enum PriceWriteMode {
+
+    /**
+     * Locks the product by bumping its version, loads its prices in the currency and checks overlaps
+     * in Java before inserting. Three statements, with the database constraints only as a last
+     * resort against races.
+     */
+    VALIDATE_FIRST,
+
+    /**
+     * Inserts straight away and lets the product foreign key and the
+     * {@code ux_product_period_currency} exclusion constraint reject the row, then bumps the
+     * product version. Two statements.
+     */
+    CONSTRAINT_FIRST
+}
@@ -0,0 +1,112 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.PriceAddedPublisher;
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.application.port.out.ReactiveChangeEventOutbox;
+import com.mango.products.application.port.out.ReactivePriceRepository;
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.InvalidCurrencyException;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import com.mango.products.domain.service.PriceOverlapValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * Reactive variant of {@link AddPriceToProductUseCase}: same validations (overlap and history
+ * freeze), write modes and error mapping, signalled through the returned {@link Mono}.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveAddPriceToProductUseCase {
+
+    private final ReactiveProductRepository productRepository;
+    private final ReactivePriceRepository priceRepository;
+    private final PriceOverlapValidator overlapValidator;
+    private final PriceHistoryFreezePolicy freezePolicy;
+    private final TransactionalOperator transactionalOperator;
+    private final ReactiveChangeEventOutbox outbox;
+    private final PriceAddedPublisher priceAddedPublisher;
+    private final ProductChangePublisher changePublisher;
+    private final PriceWriteMode writeMode;
+
+    public ReactiveAddPriceToProductUseCase(
+            ReactiveProductRepository productRepository,
+            ReactivePriceRepository priceRepository,
+            PriceOverlapValidator overlapValidator,
+            PriceHistoryFreezePolicy freezePolicy,
+            TransactionalOperator transactionalOperator,
+            ReactiveChangeEventOutbox outbox,
+            PriceAddedPublisher priceAddedPublisher,
+            ProductChangePublisher changePublisher,
+            @Value("${products.prices.write-mode:VALIDATE_FIRST}") PriceWriteMode writeMode) {
+        this.productRepository = productRepository;
+        this.priceRepository = priceRepository;
+        this.overlapValidator = overlapValidator;
+        this.freezePolicy = freezePolicy;
+        this.transactionalOperator = transactionalOperator;
+        this.outbox = outbox;
+        this.priceAddedPublisher = priceAddedPublisher;
+        this.changePublisher = changePublisher;
+        this.writeMode = writeMode;
+    }
+
+    public Mono<Price> execute(Long productId, BigDecimal value, String currencyCode, LocalDate initDate, LocalDate endDate) {
+        if (writeMode == PriceWriteMode.CONSTRAINT_FIRST) {
+            // INSERT first: the foreign key and the exclusion constraint do the validation
+            Mono<Price> insertPrice = Mono.fromSupplier(() -> Price.create(productId, value, toCurrency(currencyCode), initDate, endDate))
+                .doOnNext(freezePolicy::validate)
+                .flatMap(this::save)
+                .flatMap(saved -> productRepository.incrementVersion(productId).thenReturn(saved));
+            return afterCommit(transactionalOperator.transactional(insertPrice));
+        }
+
+        // Bumping the version doubles as the existence check and locks the product row
+        Mono<Price> addPrice = productRepository.incrementVersion(productId)
+            .filter(Boolean::booleanValue)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(productId)))
+            .map(incremented -> Price.create(productId, value, toCurrency(currencyCode), initDate, endDate))
+            .doOnNext(freezePolicy::validate)
+            .flatMap(newPrice -> priceRepository.findByProductIdAndCurrency(productId, currencyCode)
+                .collectList()
+                // Validate overlap only for prices with the same currency
+                .doOnNext(existingPrices -> overlapValidator.validate(newPrice, existingPrices))
+                .then(Mono.defer(() -> save(newPrice))));
+        return afterCommit(transactionalOperator.transactional(addPrice));
+    }
+
+    // Emitted once the transaction has committed; the change publisher is JDBC-based, so it runs off the event loop
+    private Mono<Price> afterCommit(Mono<Price> committed) {
+        return committed
+            .doOnNext(priceAddedPublisher::priceAdded)
+            .flatMap(saved -> Mono.fromRunnable(() -> changePublisher.productChanged(saved.getProductId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(saved));
+    }
+
+    private Mono<Price> save(Price newPrice) {
+        return priceRepository.save(newPrice)
+            .onErrorMap(RepositoryConstraintViolationException.class,
+                e -> PriceConstraintViolations.toDomainException(e, newPrice))
+            .flatMap(saved -> outbox.append(ChangeEvent.priceAdded(saved)).thenReturn(saved));
+    }
+
+    private static Currency toCurrency(String currencyCode) {
+        try {
+            return Currency.getInstance(currencyCode);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCurrencyException(currencyCode);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.application.port.out.ReactiveChangeEventOutbox;
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.ProductAlreadyExistsException;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Product;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@Profile("reactive")
+public class ReactiveCreateProductUseCase {
+
+    private final ReactiveProductRepository productRepository;
+    private final ReactiveChangeEventOutbox outbox;
+    private final TransactionalOperator transactionalOperator;
+    private final ProductChangePublisher changePublisher;
+
+    public ReactiveCreateProductUseCase(ReactiveProductRepository productRepository,
+                                        ReactiveChangeEventOutbox outbox,
+                                        TransactionalOperator transactionalOperator,
+                                        ProductChangePublisher changePublisher) {
+        this.productRepository = productRepository;
+        this.outbox = outbox;
+        this.transactionalOperator = transactionalOperator;
+        this.changePublisher = changePublisher;
+    }
+
+    public Mono<Product> execute(String name, String description) {
+        // The product and its change event are committed together
+        Mono<Product> createProduct = Mono.fromSupplier(() -> Product.create(name, description))
+            .flatMap(productRepository::save)
+            .flatMap(saved -> outbox.append(ChangeEvent.productCreated(saved)).thenReturn(saved));
+        return transactionalOperator.transactional(createProduct)
+            .onErrorMap(RepositoryConstraintViolationException.class, e -> new ProductAlreadyExistsException(name))
+            // The publisher is JDBC-based, so it runs once the R2DBC transaction has committed and off the event loop
+            .flatMap(saved -> Mono.fromRunnable(() -> changePublisher.productChanged(saved.getId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(saved));
+    }
+}
@@ -0,0 +1,24 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Product;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ReactiveGetProductByIdUseCase {
+
+    private final ReactiveProductRepository productRepository;
+
+    public ReactiveGetProductByIdUseCase(ReactiveProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public Mono<Product> execute(Long productId) {
+        return productRepository.findById(productId)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(productId)));
+    }
+}
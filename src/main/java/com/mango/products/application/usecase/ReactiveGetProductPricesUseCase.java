@@ -0,0 +1,61 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.ReactivePriceRepository;
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Reactive price reads. The product and its prices are fetched concurrently; an unknown product
+ * fails with {@link ProductNotFoundException} like the blocking use cases.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveGetProductPricesUseCase {
+
+    private final ReactiveProductRepository productRepository;
+    private final ReactivePriceRepository priceRepository;
+
+    public ReactiveGetProductPricesUseCase(ReactiveProductRepository productRepository,
+                                           ReactivePriceRepository priceRepository) {
+        this.productRepository = productRepository;
+        this.priceRepository = priceRepository;
+    }
+
+    public Mono<ProductPriceHistory> getHistory(Long productId) {
+        return toHistory(productId, priceRepository.findByProductId(productId));
+    }
+
+    public Mono<ProductPriceHistory> getHistoryByCurrency(Long productId, String currencyCode) {
+        return toHistory(productId, priceRepository.findByProductIdAndCurrency(productId, currencyCode));
+    }
+
+    public Mono<ProductPriceHistory> getPricesOnDate(Long productId, LocalDate date) {
+        return toHistory(productId, priceRepository.findByProductIdAndDate(productId, date));
+    }
+
+    /**
+     * Completes empty when the product exists but has no price in that currency on the date.
+     */
+    public Mono<Price> getCurrentPriceByCurrency(Long productId, String currencyCode, LocalDate date) {
+        return findProduct(productId)
+            .then(priceRepository.findByProductIdAndCurrencyAndDate(productId, currencyCode, date));
+    }
+
+    private Mono<ProductPriceHistory> toHistory(Long productId, Flux<Price> prices) {
+        return Mono.zip(findProduct(productId), prices.collectList(), ProductPriceHistory::of);
+    }
+
+    private Mono<Product> findProduct(Long productId) {
+        return productRepository.findById(productId)
+            .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(productId)));
+    }
+}
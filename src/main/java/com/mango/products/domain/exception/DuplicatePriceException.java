@@ -0,0 +1,11 @@
+package com.mango.products.domain.exception;
+
+import java.time.LocalDate;
+
+public class DuplicatePriceException extends RuntimeException {
+
+    public DuplicatePriceException(Long productId, LocalDate initDate, LocalDate endDate) {
+        super("The same price already exists for product " + productId +
+                " in the date range [" + initDate + ", " + (endDate != null ? endDate : "infinity") + "]");
+    }
+}
@@ -0,0 +1,11 @@
+package com.mango.products.domain.exception;
+
+import java.time.LocalDate;
+
+public class FrozenPriceHistoryException extends RuntimeException {
+
+    public FrozenPriceHistoryException(Long productId, LocalDate initDate, LocalDate frozenBefore) {
+        super("Price history of product " + productId + " is frozen before " + frozenBefore +
+                "; a price starting on " + initDate + " cannot be added");
+    }
+}
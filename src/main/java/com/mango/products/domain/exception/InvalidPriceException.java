@@ -0,0 +1,8 @@
+package com.mango.products.domain.exception;
+
+public class InvalidPriceException extends RuntimeException {
+
+    public InvalidPriceException(Long productId, String reason) {
+        super("Invalid price for product " + productId + ": " + reason);
+    }
+}
@@ -0,0 +1,8 @@
+package com.mango.products.domain.exception;
+
+public class PriceImportConflictException extends RuntimeException {
+
+    public PriceImportConflictException(int rows) {
+        super("Price import of " + rows + " rows conflicted with prices written concurrently; no prices were imported");
+    }
+}
@@ -0,0 +1,46 @@
+package com.mango.products.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A change to a product or its prices, as published on the change feed.
+ * <p>
+ * {@code offset} and {@code occurredAt} are assigned when the event is stored and published,
+ * so they are {@code null} on events that have just been created.
+ */
+public record ChangeEvent(Long offset, Type type, Long productId, Instant occurredAt, Product product, Price price) {
+
+    public enum Type {
+        PRODUCT_CREATED,
+        PRICE_ADDED,
+        /**
+         * Prices were bulk-imported for the product. Imported rows are inserted in batches without
+         * reading back their IDs, so the event carries neither; consumers re-read the product's prices.
+         */
+        PRICES_IMPORTED
+    }
+
+    public ChangeEvent {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        if (type == Type.PRODUCT_CREATED && product == null) {
+            throw new IllegalArgumentException("A PRODUCT_CREATED event must carry the product");
+        }
+        if (type == Type.PRICE_ADDED && price == null) {
+            throw new IllegalArgumentException("A PRICE_ADDED event must carry the price");
+        }
+    }
+
+    public static ChangeEvent productCreated(Product product) {
+        return new ChangeEvent(null, Type.PRODUCT_CREATED, product.getId(), null, product, null);
+    }
+
+    public static ChangeEvent priceAdded(Price price) {
+        return new ChangeEvent(null, Type.PRICE_ADDED, price.getProductId(), null, null, price);
+    }
+
+    public static ChangeEvent pricesImported(Long productId) {
+        return new ChangeEvent(null, Type.PRICES_IMPORTED, productId, null, null, null);
+    }
+}
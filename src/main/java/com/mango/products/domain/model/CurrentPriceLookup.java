@@ -0,0 +1,36 @@
+package com.mango.products.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of looking up the price(s) of one product on a date as part of a batch:
+ * either the active prices (one per currency) or why there are none.
+ */
+public record CurrentPriceLookup(Long productId, Status status, List<Price> prices) {
+
+    public enum Status {
+        FOUND,
+        PRODUCT_NOT_FOUND,
+        PRICE_NOT_FOUND
+    }
+
+    public CurrentPriceLookup {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+        prices = List.copyOf(prices);
+    }
+
+    public static CurrentPriceLookup productNotFound(Long productId) {
+        return new CurrentPriceLookup(productId, Status.PRODUCT_NOT_FOUND, List.of());
+    }
+
+    /**
+     * @param prices prices active on the date; empty when the product has none
+     */
+    public static CurrentPriceLookup of(Long productId, List<Price> prices) {
+        return prices.isEmpty()
+                ? new CurrentPriceLookup(productId, Status.PRICE_NOT_FOUND, List.of())
+                : new CurrentPriceLookup(productId, Status.FOUND, prices);
+    }
+}
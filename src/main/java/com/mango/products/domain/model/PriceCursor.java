@@ -0,0 +1,20 @@
+package com.mango.products.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Position in a price history ordered by {@code initDate} and {@code id}, both descending.
+ * A page starting after a cursor contains only prices strictly older than it.
+ */
+public record PriceCursor(LocalDate initDate, Long id) {
+
+    public PriceCursor {
+        Objects.requireNonNull(initDate, "Cursor init date cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    public static PriceCursor after(Price price) {
+        return new PriceCursor(price.getInitDate(), price.getId());
+    }
+}
@@ -0,0 +1,75 @@
+package com.mango.products.domain.model;
+
+import com.mango.products.domain.exception.PriceOverlapException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Prices accepted by a bulk import, validated in memory against the prices already stored and
+ * against each other.
+ * <p>
+ * Every (product, currency) pair keeps its prices indexed by {@code initDate}; since the periods
+ * in an index never overlap, the latest one starting on or before the candidate end date is the
+ * only one that can conflict, so each candidate is checked in O(log n).
+ */
+public final class PriceImportBatch {
+
+    private final Map<TimelineKey, NavigableMap<LocalDate, Price>> timelines = new HashMap<>();
+    private final List<Price> accepted = new ArrayList<>();
+
+    private PriceImportBatch() {
+    }
+
+    public static PriceImportBatch empty() {
+        return new PriceImportBatch();
+    }
+
+    public static PriceImportBatch startingFrom(Collection<Price> existingPrices) {
+        PriceImportBatch batch = new PriceImportBatch();
+        for (Price price : existingPrices) {
+            batch.timeline(price).put(price.getInitDate(), price);
+        }
+        return batch;
+    }
+
+    /**
+     * Accepts the price unless it overlaps a stored or previously accepted price of the same
+     * product and currency.
+     *
+     * @throws PriceOverlapException if the price overlaps
+     */
+    public void add(Price price) {
+        NavigableMap<LocalDate, Price> timeline = timeline(price);
+        Map.Entry<LocalDate, Price> candidate = price.getEndDate() == null
+                ? timeline.lastEntry()
+                : timeline.floorEntry(price.getEndDate());
+        if (candidate != null && candidate.getValue().overlaps(price)) {
+            throw new PriceOverlapException(price.getProductId(), price.getInitDate(), price.getEndDate());
+        }
+        timeline.put(price.getInitDate(), price);
+        accepted.add(price);
+    }
+
+    public List<Price> getAccepted() {
+        return List.copyOf(accepted);
+    }
+
+    public int size() {
+        return accepted.size();
+    }
+
+    private NavigableMap<LocalDate, Price> timeline(Price price) {
+        return timelines.computeIfAbsent(new TimelineKey(price.getProductId(), price.getCurrency()), key -> new TreeMap<>());
+    }
+
+    private record TimelineKey(Long productId, Currency currency) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.mango.products.domain.model;
+
+/**
+ * Where a price lookup date falls relative to today and to the frozen part of the history.
+ */
+public enum PriceQueryPeriod {
+
+    /**
+     * Before the history freeze boundary: no write can change the answer any more.
+     */
+    HISTORICAL,
+
+    /**
+     * From the freeze boundary up to today: backdated writes can still change the answer.
+     */
+    CURRENT,
+
+    /**
+     * After today: scheduled prices can still be added or replaced.
+     */
+    FUTURE
+}
@@ -0,0 +1,123 @@
+package com.mango.products.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable, sorted timeline of the prices of one product in one currency.
+ * <p>
+ * Periods in a timeline never overlap, so both their init and end dates are sorted and
+ * a conflicting or active price can be located with a binary search on {@code initDate}.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(List.of());
+
+    private final List<Price> prices;
+
+    private PriceTimeline(List<Price> prices) {
+        this.prices = prices;
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a timeline from prices of the same product and currency, in any order.
+     *
+     * @throws IllegalArgumentException if the prices mix products or currencies, or overlap
+     */
+    public static PriceTimeline of(List<Price> prices) {
+        if (prices == null || prices.isEmpty()) {
+            return EMPTY;
+        }
+        List<Price> sorted = new ArrayList<>(prices);
+        sorted.sort(Comparator.comparing(Price::getInitDate));
+
+        Price first = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            Price previous = sorted.get(i - 1);
+            Price current = sorted.get(i);
+            if (!current.getProductId().equals(first.getProductId()) || !current.getCurrency().equals(first.getCurrency())) {
+                throw new IllegalArgumentException("A price timeline must contain a single product and currency");
+            }
+            if (previous.getEndDate() == null || !previous.getEndDate().isBefore(current.getInitDate())) {
+                throw new IllegalArgumentException("Prices in a timeline cannot overlap: " + previous + " and " + current);
+            }
+        }
+        return new PriceTimeline(List.copyOf(sorted));
+    }
+
+    /**
+     * Finds an existing price sharing at least one day with the given one, if any.
+     * Prices of another product or currency never conflict with this timeline.
+     */
+    public Optional<Price> findOverlapping(Price price) {
+        if (prices.isEmpty() || !belongsTo(price)) {
+            return Optional.empty();
+        }
+        // Latest price starting on or before the new end date: the only one that can reach the new init date
+        int index = price.getEndDate() == null ? prices.size() - 1 : lastStartingOnOrBefore(price.getEndDate());
+        if (index < 0) {
+            return Optional.empty();
+        }
+        Price candidate = prices.get(index);
+        return covers(candidate, price.getInitDate()) ? Optional.of(candidate) : Optional.empty();
+    }
+
+    /**
+     * Finds the price active on the given date (both ends inclusive), if any.
+     */
+    public Optional<Price> findActiveOn(LocalDate date) {
+        int index = lastStartingOnOrBefore(date);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        Price candidate = prices.get(index);
+        return covers(candidate, date) ? Optional.of(candidate) : Optional.empty();
+    }
+
+    /**
+     * @return the prices sorted by init date, oldest first
+     */
+    public List<Price> getPrices() {
+        return prices;
+    }
+
+    public int size() {
+        return prices.size();
+    }
+
+    public boolean isEmpty() {
+        return prices.isEmpty();
+    }
+
+    private boolean belongsTo(Price price) {
+        Price first = prices.get(0);
+        return first.getProductId().equals(price.getProductId()) && first.getCurrency().equals(price.getCurrency());
+    }
+
+    private int lastStartingOnOrBefore(LocalDate date) {
+        int low = 0;
+        int high = prices.size() - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (prices.get(mid).getInitDate().isAfter(date)) {
+                high = mid - 1;
+            } else {
+                result = mid;
+                low = mid + 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean covers(Price price, LocalDate date) {
+        return price.getEndDate() == null || !price.getEndDate().isBefore(date);
+    }
+}
@@ -4,22 +4,33 @@ import java.util.Objects;
 
 public class Product {
 
+    /**
+     * Version of a newly created product; every change to the product or its prices bumps it.
+     */
+    public static final long INITIAL_VERSION = 1L;
+
     private Long id;
     private String name;
     private String description;
+    private long version;
 
-    private Product(Long id, String name, String description) {
+    private Product(Long id, String name, String description, long version) {
         this.id = id;
         this.name = Objects.requireNonNull(name, "Product name cannot be null");
         this.description = description;
+        this.version = version;
     }
 
     public static Product create(String name, String description) {
-        return new Product(null, name, description);
+        return new Product(null, name, description, INITIAL_VERSION);
     }
 
     public static Product of(Long id, String name, String description) {
-        return new Product(id, name, description);
+        return new Product(id, name, description, INITIAL_VERSION);
+    }
+
+    public static Product of(Long id, String name, String description, long version) {
+        return new Product(id, name, description, version);
     }
 
     public Long getId() {
@@ -34,6 +45,10 @@ public class Product {
         return description;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -52,6 +67,6 @@ public class Product {
 
     @Override
     public String toString() {
-        return "Product{id=" + id + ", name='" + name + "', description='" + description + "'}";
+        return "Product{id=" + id + ", name='" + name + "', description='" + description + "', version=" + version + "}";
     }
 }
\ No newline at end of file
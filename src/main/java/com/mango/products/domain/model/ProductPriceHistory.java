@@ -0,0 +1,35 @@
+package com.mango.products.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read model of a product together with (a filtered view of) its prices.
+ */
+public class ProductPriceHistory {
+
+    private final Product product;
+    private final List<Price> prices;
+
+    private ProductPriceHistory(Product product, List<Price> prices) {
+        this.product = Objects.requireNonNull(product, "Product cannot be null");
+        this.prices = List.copyOf(Objects.requireNonNull(prices, "Prices cannot be null"));
+    }
+
+    public static ProductPriceHistory of(Product product, List<Price> prices) {
+        return new ProductPriceHistory(product, prices);
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public List<Price> getPrices() {
+        return prices;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductPriceHistory{product=" + product + ", prices=" + prices + "}";
+    }
+}
@@ -0,0 +1,30 @@
+package com.mango.products.domain.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One page of a product price history, with the cursor of the next page if there is one.
+ */
+public class ProductPriceHistoryPage {
+
+    private final ProductPriceHistory history;
+    private final PriceCursor nextCursor;
+
+    private ProductPriceHistoryPage(ProductPriceHistory history, PriceCursor nextCursor) {
+        this.history = Objects.requireNonNull(history, "History cannot be null");
+        this.nextCursor = nextCursor;
+    }
+
+    public static ProductPriceHistoryPage of(ProductPriceHistory history, PriceCursor nextCursor) {
+        return new ProductPriceHistoryPage(history, nextCursor);
+    }
+
+    public ProductPriceHistory getHistory() {
+        return history;
+    }
+
+    public Optional<PriceCursor> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,72 @@
+package com.mango.products.domain.service;
+
+import com.mango.products.domain.exception.FrozenPriceHistoryException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceQueryPeriod;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Optional;
+
+/**
+ * History freeze rule: when enabled, dates more than {@code freezeAfter} in the past are frozen,
+ * and a price may not start on one of them. Since a price only affects dates from its
+ * {@code initDate} on, the prices active on a frozen date can no longer change, so lookups for it
+ * are immutable.
+ */
+@Component
+public class PriceHistoryFreezePolicy {
+
+    private final boolean enabled;
+    private final Period freezeAfter;
+    private final Clock clock;
+
+    @Autowired
+    public PriceHistoryFreezePolicy(
+            @Value("${products.prices.history-freeze.enabled:false}") boolean enabled,
+            @Value("${products.prices.history-freeze.after:P30D}") Period freezeAfter) {
+        this(enabled, freezeAfter, Clock.systemDefaultZone());
+    }
+
+    public PriceHistoryFreezePolicy(boolean enabled, Period freezeAfter, Clock clock) {
+        this.enabled = enabled;
+        this.freezeAfter = freezeAfter;
+        this.clock = clock;
+    }
+
+    public static PriceHistoryFreezePolicy disabled() {
+        return new PriceHistoryFreezePolicy(false, Period.ZERO, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @return the first date that is not frozen yet, empty if the history is never frozen
+     */
+    public Optional<LocalDate> frozenBefore() {
+        return enabled ? Optional.of(LocalDate.now(clock).minus(freezeAfter)) : Optional.empty();
+    }
+
+    public boolean isFrozen(LocalDate date) {
+        return frozenBefore().map(date::isBefore).orElse(false);
+    }
+
+    /**
+     * @throws FrozenPriceHistoryException if the price starts on a frozen date
+     */
+    public void validate(Price newPrice) {
+        Optional<LocalDate> boundary = frozenBefore();
+        if (boundary.isPresent() && newPrice.getInitDate().isBefore(boundary.get())) {
+            throw new FrozenPriceHistoryException(newPrice.getProductId(), newPrice.getInitDate(), boundary.get());
+        }
+    }
+
+    public PriceQueryPeriod classify(LocalDate date) {
+        if (date.isAfter(LocalDate.now(clock))) {
+            return PriceQueryPeriod.FUTURE;
+        }
+        return isFrozen(date) ? PriceQueryPeriod.HISTORICAL : PriceQueryPeriod.CURRENT;
+    }
+}
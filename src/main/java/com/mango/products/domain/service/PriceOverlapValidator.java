@@ -2,6 +2,7 @@ package com.mango.products.domain.service;
 
 import com.mango.products.domain.exception.PriceOverlapException;
 import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceTimeline;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -9,6 +10,10 @@ import java.util.List;
 @Component
 public class PriceOverlapValidator {
 
+    /**
+     * Scans the prices once, in O(n). Used by the write path, which loads the product's prices in
+     * one currency as a list; sorting them into a {@link PriceTimeline} first would cost more.
+     */
     public void validate(Price newPrice, List<Price> existingPrices) {
         if (existingPrices == null || existingPrices.isEmpty()) {
             return;
@@ -24,5 +29,18 @@ public class PriceOverlapValidator {
             }
         }
     }
-}
 
+    /**
+     * Validates against an already built timeline with a binary search, in O(log n). Used by the
+     * bulk import, which builds one timeline per product and currency and checks every row against it.
+     */
+    public void validateAgainst(Price newPrice, PriceTimeline timeline) {
+        if (timeline.findOverlapping(newPrice).isPresent()) {
+            throw new PriceOverlapException(
+                    newPrice.getProductId(),
+                    newPrice.getInitDate(),
+                    newPrice.getEndDate()
+            );
+        }
+    }
+}
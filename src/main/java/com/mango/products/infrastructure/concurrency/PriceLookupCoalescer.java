@@ -0,0 +1,67 @@
+package com.mango.products.infrastructure.concurrency;
+
+import com.mango.products.application.usecase.GetProductPriceHistoryUseCase;
+import com.mango.products.application.usecase.GetProductPricesUseCase;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.ProductPriceHistory;
+import com.mango.products.infrastructure.persistence.routing.ReadYourWritesContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Point-in-time price lookups ({@code GET /products/{id}/prices?date=...}) through
+ * {@link SingleFlight}: identical concurrent lookups share one transaction and one query.
+ * <p>
+ * Sits outside the use cases' transactions, so waiters hold no connection. Callers pinned to the
+ * primary by read-your-writes bypass it, since an in-flight call may predate their write.
+ * Opt-in with {@code products.prices.coalescing.enabled}.
+ */
+@Component
+public class PriceLookupCoalescer {
+
+    private final GetProductPricesUseCase getProductPricesUseCase;
+    private final GetProductPriceHistoryUseCase getProductPriceHistoryUseCase;
+    private final SingleFlight<LookupKey, Optional<Price>> currentPriceCalls;
+    private final SingleFlight<LookupKey, ProductPriceHistory> pricesOnDateCalls;
+    private final boolean enabled;
+
+    public PriceLookupCoalescer(GetProductPricesUseCase getProductPricesUseCase,
+                                GetProductPriceHistoryUseCase getProductPriceHistoryUseCase,
+                                MeterRegistry meterRegistry,
+                                @Value("${products.prices.coalescing.enabled:false}") boolean enabled,
+                                @Value("${products.prices.coalescing.timeout:2s}") Duration timeout) {
+        this.getProductPricesUseCase = getProductPricesUseCase;
+        this.getProductPriceHistoryUseCase = getProductPriceHistoryUseCase;
+        this.currentPriceCalls = new SingleFlight<>("current-price", timeout, meterRegistry);
+        this.pricesOnDateCalls = new SingleFlight<>("prices-on-date", timeout, meterRegistry);
+        this.enabled = enabled;
+    }
+
+    public Optional<Price> getCurrentPriceByCurrency(Long productId, String currencyCode, LocalDate date) {
+        if (!coalesce()) {
+            return getProductPricesUseCase.getCurrentPriceByCurrency(productId, currencyCode, date);
+        }
+        return currentPriceCalls.execute(new LookupKey(productId, currencyCode, date),
+                () -> getProductPricesUseCase.getCurrentPriceByCurrency(productId, currencyCode, date));
+    }
+
+    public ProductPriceHistory getPricesOnDate(Long productId, LocalDate date) {
+        if (!coalesce()) {
+            return getProductPriceHistoryUseCase.getPricesOnDate(productId, date);
+        }
+        return pricesOnDateCalls.execute(new LookupKey(productId, null, date),
+                () -> getProductPriceHistoryUseCase.getPricesOnDate(productId, date));
+    }
+
+    private boolean coalesce() {
+        return enabled && !ReadYourWritesContext.isPinnedToPrimary();
+    }
+
+    private record LookupKey(Long productId, String currencyCode, LocalDate date) {
+    }
+}
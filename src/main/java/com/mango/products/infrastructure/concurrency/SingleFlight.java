@@ -0,0 +1,114 @@
+package com.mango.products.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one: the first caller runs the loader on its
+ * own thread, callers arriving while it is in flight wait for and share its result or exception.
+ * Nothing is cached: the key is released as soon as the call completes.
+ * <p>
+ * The timeout belongs to each key's in-flight call, counted from when it started: once a call is
+ * overdue, one caller replaces it with a fresh call and the other callers for that key wait on the
+ * replacement, so a slow or stuck call neither holds the key hostage nor turns every waiter into a
+ * query of its own. The overdue call still completes for its own caller.
+ * <p>
+ * Counts calls in {@code products.singleflight.calls}, tagged by {@code name} and {@code result}:
+ * {@code executed}, {@code collapsed} (each time a caller joins a call) or {@code timed_out}
+ * (replacement of an overdue call).
+ */
+public final class SingleFlight<K, V> {
+
+    static final String METRIC_NAME = "products.singleflight.calls";
+
+    private final ConcurrentMap<K, Call<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final Counter executed;
+    private final Counter collapsed;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeoutNanos = timeout.toNanos();
+        this.executed = counter(meterRegistry, name, "executed");
+        this.collapsed = counter(meterRegistry, name, "collapsed");
+        this.timedOut = counter(meterRegistry, name, "timed_out");
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        while (true) {
+            Call<V> call = new Call<>(new CompletableFuture<>(), System.nanoTime() + timeoutNanos);
+            Call<V> inFlightCall = inFlight.putIfAbsent(key, call);
+            if (inFlightCall == null) {
+                executed.increment();
+                return lead(key, call, loader);
+            }
+            long remainingNanos = inFlightCall.deadlineNanos() - System.nanoTime();
+            if (remainingNanos <= 0) {
+                if (inFlight.replace(key, inFlightCall, call)) {
+                    timedOut.increment();
+                    return lead(key, call, loader);
+                }
+                // Another caller replaced it first; join its call
+                continue;
+            }
+            collapsed.increment();
+            try {
+                return await(inFlightCall, remainingNanos);
+            } catch (TimeoutException e) {
+                // The call is overdue now: replace it, or join whoever did
+            }
+        }
+    }
+
+    private V lead(K key, Call<V> call, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            call.result().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            // No-op if the call was overdue and has been replaced
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(Call<V> call, long remainingNanos) throws TimeoutException {
+        try {
+            return call.result().get(remainingNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Same exception the leader got, e.g. ProductNotFoundException
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight call", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Calls through a single-flight group")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Call<V>(CompletableFuture<V> result, long deadlineNanos) {
+    }
+}
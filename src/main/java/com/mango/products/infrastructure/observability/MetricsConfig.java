@@ -0,0 +1,21 @@
+package com.mango.products.infrastructure.observability;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans. Use cases report to {@code products.usecase} and
+ * persistence adapters to {@code products.repository}, tagged with class and method; together
+ * with {@code http.server.requests} this splits request latency into database, application
+ * and web (mapping plus serialization) time.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
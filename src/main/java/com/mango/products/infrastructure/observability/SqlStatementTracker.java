@@ -0,0 +1,68 @@
+package com.mango.products.infrastructure.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Counts the JDBC statements executed by the current thread between {@link #start()} and
+ * {@link #stop()}, and the time spent in them. Registered as listener of the proxied DataSource;
+ * statements run outside a tracked scope (Flyway, background jobs) are ignored.
+ * <p>
+ * A JDBC batch counts as one statement: it is one round trip.
+ */
+public final class SqlStatementTracker implements QueryExecutionListener {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    public static Stats start() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static Optional<Stats> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(execInfo.getElapsedTime());
+        }
+    }
+
+    public static final class Stats {
+
+        private int statements;
+        private long elapsedMillis;
+
+        private Stats() {
+        }
+
+        private void record(long millis) {
+            statements++;
+            elapsedMillis += millis;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public long elapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import io.r2dbc.spi.R2dbcException;
+
+import java.sql.SQLException;
+
+/**
+ * Classifies constraint violations by the PostgreSQL SQLSTATE found in the exception chain,
+ * reported by either the JDBC or the R2DBC driver.
+ */
+final class ConstraintViolations {
+
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String CHECK_VIOLATION = "23514";
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private ConstraintViolations() {
+    }
+
+    static RepositoryConstraintViolationException.Kind kindOf(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            String sqlState = sqlStateOf(cause);
+            if (sqlState != null) {
+                return switch (sqlState) {
+                    case FOREIGN_KEY_VIOLATION -> RepositoryConstraintViolationException.Kind.FOREIGN_KEY;
+                    case UNIQUE_VIOLATION -> RepositoryConstraintViolationException.Kind.UNIQUE;
+                    case CHECK_VIOLATION -> RepositoryConstraintViolationException.Kind.CHECK;
+                    case EXCLUSION_VIOLATION -> RepositoryConstraintViolationException.Kind.EXCLUSION;
+                    default -> RepositoryConstraintViolationException.Kind.OTHER;
+                };
+            }
+        }
+        return RepositoryConstraintViolationException.Kind.OTHER;
+    }
+
+    static RepositoryConstraintViolationException translate(String message, Throwable exception) {
+        return new RepositoryConstraintViolationException(message, kindOf(exception), exception);
+    }
+
+    private static String sqlStateOf(Throwable exception) {
+        if (exception instanceof SQLException sqlException) {
+            return sqlException.getSQLState();
+        }
+        if (exception instanceof R2dbcException r2dbcException) {
+            return r2dbcException.getSqlState();
+        }
+        return null;
+    }
+}
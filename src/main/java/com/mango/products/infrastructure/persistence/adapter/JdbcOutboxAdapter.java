@@ -0,0 +1,119 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.ChangeFeedRepository;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Stores change events in the {@code outbox_events} table and serves the published ones as the
+ * change feed. Payloads are JSON snapshots of the product or price the event is about.
+ * <p>
+ * {@link #publishPending(int)} is the relay step: it numbers the oldest unpublished events with
+ * the next feed offsets, holding a transaction-scoped advisory lock so that only one instance
+ * publishes at a time and offsets become visible in increasing order.
+ */
+@Timed(value = "products.repository", histogram = true)
+public class JdbcOutboxAdapter implements ChangeEventOutbox, ChangeFeedRepository {
+
+    // Arbitrary, but unique among the advisory locks the application takes
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_events (event_type, product_id, payload) VALUES (?, ?, ?::jsonb)";
+    private static final String PUBLISH_SQL = """
+        WITH pending AS (
+          SELECT id FROM outbox_events WHERE feed_offset IS NULL ORDER BY id LIMIT :limit
+        ), numbered AS (
+          SELECT id, nextval('outbox_feed_offset_seq') AS feed_offset FROM pending
+        )
+        UPDATE outbox_events e SET feed_offset = n.feed_offset, published_at = now()
+        FROM numbered n WHERE e.id = n.id
+        """;
+    private static final String FEED_SQL = """
+        SELECT feed_offset, event_type, product_id, payload, created_at
+        FROM outbox_events
+        WHERE feed_offset > :after
+        ORDER BY feed_offset
+        LIMIT :limit
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+    private final ObjectMapper objectMapper;
+
+    public JdbcOutboxAdapter(JdbcTemplate jdbcTemplate, JdbcClient jdbcClient, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void append(List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.type().name());
+            statement.setLong(2, event.productId());
+            statement.setString(3, OutboxPayloads.toJson(objectMapper, event));
+        });
+    }
+
+    @Override
+    public List<ChangeEvent> findPublishedAfter(long offset, int limit) {
+        return jdbcClient.sql(FEED_SQL)
+            .param("after", offset)
+            .param("limit", limit)
+            .query(this::toEvent)
+            .list();
+    }
+
+    /**
+     * Publishes up to {@code batchSize} pending events. Must run inside a transaction.
+     *
+     * @return how many events were published; 0 as well when another instance holds the relay lock
+     */
+    public int publishPending(int batchSize) {
+        Boolean locked = jdbcClient.sql("SELECT pg_try_advisory_xact_lock(:key)")
+            .param("key", RELAY_LOCK_KEY)
+            .query(Boolean.class)
+            .single();
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0;
+        }
+        return jdbcClient.sql(PUBLISH_SQL)
+            .param("limit", batchSize)
+            .update();
+    }
+
+    private ChangeEvent toEvent(ResultSet resultSet, int rowNum) throws SQLException {
+        ChangeEvent.Type type = ChangeEvent.Type.valueOf(resultSet.getString("event_type"));
+        String payload = resultSet.getString("payload");
+        Product product = null;
+        Price price = null;
+        try {
+            switch (type) {
+                case PRODUCT_CREATED -> product = objectMapper.readValue(payload, OutboxPayloads.ProductPayload.class).toProduct();
+                case PRICE_ADDED -> price = objectMapper.readValue(payload, OutboxPayloads.PricePayload.class).toPrice();
+                case PRICES_IMPORTED -> { }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload of outbox event at offset "
+                + resultSet.getLong("feed_offset"), e);
+        }
+        return new ChangeEvent(resultSet.getLong("feed_offset"), type, resultSet.getLong("product_id"),
+            resultSet.getObject("created_at", OffsetDateTime.class).toInstant(), product, price);
+    }
+}
@@ -0,0 +1,104 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
+import com.mango.products.infrastructure.persistence.repository.JpaPriceRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Serves the single-product price reads with plain JDBC, mapping rows straight to {@link Price}:
+ * no managed entities, no persistence-context snapshots to dirty-check at flush.
+ * <p>
+ * Writes and the remaining queries go to the delegate. Statements run on the connection of the
+ * current transaction, so read-only routing to replicas still applies.
+ */
+@Timed(value = "products.repository", histogram = true)
+public class JdbcPriceReadAdapter implements PriceRepository {
+
+    private static final String SELECT_SQL =
+        "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices ";
+    private static final String NEWEST_FIRST = " ORDER BY init_date DESC";
+
+    private final PriceRepository delegate;
+    private final JdbcClient jdbcClient;
+
+    public JdbcPriceReadAdapter(PriceRepository delegate, JdbcClient jdbcClient) {
+        this.delegate = delegate;
+        this.jdbcClient = jdbcClient;
+    }
+
+    @Override
+    public List<Price> findByProductId(Long productId) {
+        return jdbcClient.sql(SELECT_SQL + "WHERE product_id = :productId" + NEWEST_FIRST)
+            .param("productId", productId)
+            .query(PriceRowMapper.INSTANCE)
+            .list();
+    }
+
+    @Override
+    public List<Price> findByProductIdAndCurrency(Long productId, String currencyCode) {
+        return jdbcClient.sql(SELECT_SQL + "WHERE product_id = :productId AND currency = :currency" + NEWEST_FIRST)
+            .param("productId", productId)
+            .param("currency", currencyCode)
+            .query(PriceRowMapper.INSTANCE)
+            .list();
+    }
+
+    @Override
+    public List<Price> findByProductIdAndDate(Long productId, LocalDate date) {
+        return jdbcClient.sql(JpaPriceRepository.ACTIVE_ON_DATE_SQL)
+            .param("productId", productId)
+            .param("date", date)
+            .query(PriceRowMapper.INSTANCE)
+            .list();
+    }
+
+    @Override
+    public Optional<Price> findByProductIdAndCurrencyAndDate(Long productId, String currencyCode, LocalDate date) {
+        return jdbcClient.sql(JpaPriceRepository.ACTIVE_ON_DATE_BY_CURRENCY_SQL)
+            .param("productId", productId)
+            .param("currency", currencyCode)
+            .param("date", date)
+            .query(PriceRowMapper.INSTANCE)
+            .optional();
+    }
+
+    @Override
+    public Price save(Price price) {
+        return delegate.save(price);
+    }
+
+    @Override
+    public void saveAll(List<Price> prices) {
+        delegate.saveAll(prices);
+    }
+
+    @Override
+    public List<Price> findByProductIds(Collection<Long> productIds) {
+        return delegate.findByProductIds(productIds);
+    }
+
+    @Override
+    public Map<Long, List<Price>> findActiveByProductIds(Collection<Long> productIds, String currencyCode, LocalDate date) {
+        return delegate.findActiveByProductIds(productIds, currencyCode, date);
+    }
+
+    @Override
+    public List<Price> findPageByProductId(Long productId, String currencyCode, PriceCursor after, int limit) {
+        return delegate.findPageByProductId(productId, currencyCode, after, limit);
+    }
+
+    @Override
+    public void forEachByProductId(Long productId, String currencyCode, Consumer<Price> consumer) {
+        delegate.forEachByProductId(productId, currencyCode, consumer);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.Map;
+
+/**
+ * JSON snapshots stored in {@code outbox_events.payload}, shared by the JDBC and R2DBC outboxes.
+ */
+final class OutboxPayloads {
+
+    private OutboxPayloads() {
+    }
+
+    static String toJson(ObjectMapper objectMapper, ChangeEvent event) {
+        Object payload = switch (event.type()) {
+            case PRODUCT_CREATED -> ProductPayload.of(event.product());
+            case PRICE_ADDED -> PricePayload.of(event.price());
+            case PRICES_IMPORTED -> Map.of();
+        };
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.type() + " event", e);
+        }
+    }
+
+    record ProductPayload(Long id, String name, String description, long version) {
+
+        static ProductPayload of(Product product) {
+            return new ProductPayload(product.getId(), product.getName(), product.getDescription(), product.getVersion());
+        }
+
+        Product toProduct() {
+            return Product.of(id, name, description, version);
+        }
+    }
+
+    record PricePayload(Long id, Long productId, BigDecimal value, String currency, LocalDate initDate, LocalDate endDate) {
+
+        static PricePayload of(Price price) {
+            return new PricePayload(price.getId(), price.getProductId(), price.getValue(),
+                price.getCurrency().getCurrencyCode(), price.getInitDate(), price.getEndDate());
+        }
+
+        Price toPrice() {
+            return Price.of(id, productId, value, Currency.getInstance(currency), initDate, endDate);
+        }
+    }
+}
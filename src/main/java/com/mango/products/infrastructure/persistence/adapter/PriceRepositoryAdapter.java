@@ -1,26 +1,60 @@
 package com.mango.products.infrastructure.persistence.adapter;
 
-import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
 import com.mango.products.application.port.out.PriceRepository;
 import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
 import com.mango.products.infrastructure.persistence.entity.PriceEntity;
 import com.mango.products.infrastructure.persistence.mapper.PriceMapper;
 import com.mango.products.infrastructure.persistence.repository.JpaPriceRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.Types;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Timed(value = "products.repository", histogram = true)
 public class PriceRepositoryAdapter implements PriceRepository {
 
+    // IDENTITY ids rule out Hibernate insert batching, so bulk inserts go through plain JDBC
+    // (rewritten into multi-row INSERTs by the driver's reWriteBatchedInserts)
+    private static final String INSERT_SQL =
+        "INSERT INTO product_prices (product_id, value, currency, init_date, end_date) VALUES (?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    // One round trip for many products: LEFT JOIN keeps the products without an active price
+    private static final String ACTIVE_BY_PRODUCT_IDS_SQL =
+        "SELECT p.id AS product_id, pr.id, pr.value, pr.currency, pr.init_date, pr.end_date " +
+        "FROM products p " +
+        "LEFT JOIN product_prices pr ON pr.product_id = p.id " +
+        "AND pr.period @> CAST(? AS date) ";
+    private static final String ACTIVE_BY_PRODUCT_IDS_WHERE_SQL = "WHERE p.id = ANY(?)";
+
+    // PostgreSQL caps bind parameters per statement at 32767
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final JpaPriceRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public PriceRepositoryAdapter(JpaPriceRepository jpaRepository) {
+    public PriceRepositoryAdapter(JpaPriceRepository jpaRepository, EntityManager entityManager, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -30,7 +64,29 @@ public class PriceRepositoryAdapter implements PriceRepository {
             PriceEntity saved = jpaRepository.save(entity);
             return PriceMapper.toDomain(saved);
         } catch (DataIntegrityViolationException e) {
-            throw new RepositoryConstraintViolationException("Data constraint violation while saving price", e);
+            throw ConstraintViolations.translate("Data constraint violation while saving price", e);
+        }
+    }
+
+    @Override
+    public void saveAll(List<Price> prices) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, prices, INSERT_BATCH_SIZE, (ps, price) -> {
+                ps.setLong(1, price.getProductId());
+                ps.setBigDecimal(2, price.getValue());
+                ps.setString(3, price.getCurrency().getCurrencyCode());
+                ps.setDate(4, Date.valueOf(price.getInitDate()));
+                if (price.getEndDate() != null) {
+                    ps.setDate(5, Date.valueOf(price.getEndDate()));
+                } else {
+                    ps.setNull(5, Types.DATE);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw ConstraintViolations.translate("Data constraint violation while saving prices", e);
         }
     }
 
@@ -42,6 +98,20 @@ public class PriceRepositoryAdapter implements PriceRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Price> findByProductIds(Collection<Long> productIds) {
+        List<Long> requested = new ArrayList<>(productIds);
+        List<Price> prices = new ArrayList<>();
+        for (int from = 0; from < requested.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, requested.size()));
+            jpaRepository.findByProductIdIn(chunk).forEach(entity -> {
+                prices.add(PriceMapper.toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
+        return prices;
+    }
+
     @Override
     public List<Price> findByProductIdAndCurrency(Long productId, String currencyCode) {
         return jpaRepository.findByProductIdAndCurrencyOrderByInitDateDesc(productId, currencyCode)
@@ -63,5 +133,62 @@ public class PriceRepositoryAdapter implements PriceRepository {
         return jpaRepository.findByProductIdAndCurrencyAndDate(productId, currencyCode, date)
             .map(PriceMapper::toDomain);
     }
-}
 
+    @Override
+    public Map<Long, List<Price>> findActiveByProductIds(Collection<Long> productIds, String currencyCode, LocalDate date) {
+        Map<Long, List<Price>> active = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return active;
+        }
+        String sql = ACTIVE_BY_PRODUCT_IDS_SQL
+            + (currencyCode != null ? "AND pr.currency = ? " : "")
+            + ACTIVE_BY_PRODUCT_IDS_WHERE_SQL;
+        jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            ps.setDate(index++, Date.valueOf(date));
+            if (currencyCode != null) {
+                ps.setString(index++, currencyCode);
+            }
+            Array ids = ps.getConnection().createArrayOf("bigint", productIds.toArray());
+            ps.setArray(index, ids);
+        }, rs -> {
+            Long productId = rs.getLong("product_id");
+            List<Price> prices = active.computeIfAbsent(productId, id -> new ArrayList<>());
+            rs.getLong("id");
+            if (!rs.wasNull()) {
+                prices.add(PriceRowMapper.INSTANCE.mapRow(rs, 0));
+            }
+        });
+        return active;
+    }
+
+    @Override
+    public List<Price> findPageByProductId(Long productId, String currencyCode, PriceCursor after, int limit) {
+        List<PriceEntity> page;
+        if (currencyCode == null) {
+            page = after == null
+                ? jpaRepository.findHistoryPage(productId, limit)
+                : jpaRepository.findHistoryPageAfter(productId, after.initDate(), after.id(), limit);
+        } else {
+            page = after == null
+                ? jpaRepository.findHistoryPageByCurrency(productId, currencyCode, limit)
+                : jpaRepository.findHistoryPageByCurrencyAfter(productId, currencyCode, after.initDate(), after.id(), limit);
+        }
+        return page.stream()
+            .map(PriceMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void forEachByProductId(Long productId, String currencyCode, Consumer<Price> consumer) {
+        try (Stream<PriceEntity> rows = currencyCode == null
+                ? jpaRepository.streamByProductIdOrderByInitDateDesc(productId)
+                : jpaRepository.streamByProductIdAndCurrencyOrderByInitDateDesc(productId, currencyCode)) {
+            rows.forEach(entity -> {
+                consumer.accept(PriceMapper.toDomain(entity));
+                // Keep the persistence context (and heap) flat however long the history is
+                entityManager.detach(entity);
+            });
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.mango.products.domain.model.Price;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * Maps a {@code product_prices} row (id, product_id, value, currency, init_date, end_date)
+ * straight to {@link Price}, without an intermediate entity.
+ */
+final class PriceRowMapper implements RowMapper<Price> {
+
+    static final PriceRowMapper INSTANCE = new PriceRowMapper();
+
+    private PriceRowMapper() {
+    }
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Price.of(
+            rs.getLong("id"),
+            rs.getLong("product_id"),
+            rs.getBigDecimal("value"),
+            // Currency.getInstance is a map lookup of a shared instance, not an allocation
+            Currency.getInstance(rs.getString("currency")),
+            rs.getObject("init_date", LocalDate.class),
+            rs.getObject("end_date", LocalDate.class)
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.mango.products.application.port.out.ProductPriceHistoryRepository;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
+import com.mango.products.infrastructure.persistence.entity.PriceEntity;
+import com.mango.products.infrastructure.persistence.entity.ProductEntity;
+import com.mango.products.infrastructure.persistence.mapper.PriceMapper;
+import com.mango.products.infrastructure.persistence.mapper.ProductMapper;
+import com.mango.products.infrastructure.persistence.repository.JpaProductRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Timed(value = "products.repository", histogram = true)
+public class ProductPriceHistoryRepositoryAdapter implements ProductPriceHistoryRepository {
+
+    private final JpaProductRepository jpaRepository;
+
+    public ProductPriceHistoryRepositoryAdapter(JpaProductRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public Optional<ProductPriceHistory> findByProductId(Long productId) {
+        return toHistory(jpaRepository.findWithPrices(productId));
+    }
+
+    @Override
+    public Optional<ProductPriceHistory> findByProductIdAndCurrency(Long productId, String currencyCode) {
+        return toHistory(jpaRepository.findWithPricesByCurrency(productId, currencyCode));
+    }
+
+    @Override
+    public Optional<ProductPriceHistory> findByProductIdAndDate(Long productId, LocalDate date) {
+        List<Object[]> rows = jpaRepository.findWithPricesOnDate(productId, date);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] first = rows.get(0);
+        Product product = Product.of(((Number) first[0]).longValue(), (String) first[1], (String) first[2],
+                ((Number) first[3]).longValue());
+        List<Price> prices = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[4] != null) {
+                prices.add(Price.of(((Number) row[4]).longValue(), product.getId(), (BigDecimal) row[5],
+                        Currency.getInstance((String) row[6]), toLocalDate(row[7]), toLocalDate(row[8])));
+            }
+        }
+        return Optional.of(ProductPriceHistory.of(product, prices));
+    }
+
+    private static Optional<ProductPriceHistory> toHistory(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        ProductEntity product = (ProductEntity) rows.get(0)[0];
+        List<Price> prices = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                prices.add(PriceMapper.toDomain((PriceEntity) row[1]));
+            }
+        }
+        return Optional.of(ProductPriceHistory.of(ProductMapper.toDomain(product), prices));
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
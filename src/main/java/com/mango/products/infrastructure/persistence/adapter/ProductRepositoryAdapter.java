@@ -1,19 +1,28 @@
 package com.mango.products.infrastructure.persistence.adapter;
 
-import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.model.Product;
 import com.mango.products.infrastructure.persistence.entity.ProductEntity;
 import com.mango.products.infrastructure.persistence.mapper.ProductMapper;
 import com.mango.products.infrastructure.persistence.repository.JpaProductRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
+@Timed(value = "products.repository", histogram = true)
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    // PostgreSQL caps bind parameters per statement at 32767
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final JpaProductRepository jpaRepository;
 
     public ProductRepositoryAdapter(JpaProductRepository jpaRepository) {
@@ -27,7 +36,7 @@ public class ProductRepositoryAdapter implements ProductRepository {
             ProductEntity saved = jpaRepository.save(entity);
             return ProductMapper.toDomain(saved);
         } catch (DataIntegrityViolationException e) {
-            throw new RepositoryConstraintViolationException("Data constraint violation while saving product", e);
+            throw ConstraintViolations.translate("Data constraint violation while saving product", e);
         }
     }
 
@@ -41,5 +50,44 @@ public class ProductRepositoryAdapter implements ProductRepository {
     public boolean existsById(Long id) {
         return jpaRepository.existsById(id);
     }
-}
 
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        List<Long> requested = new ArrayList<>(ids);
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < requested.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, requested.size()));
+            existing.addAll(jpaRepository.findExistingIds(chunk));
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        List<Long> requested = new ArrayList<>(ids);
+        List<Product> products = new ArrayList<>();
+        for (int from = 0; from < requested.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, requested.size()));
+            jpaRepository.findAllById(chunk).forEach(entity -> products.add(ProductMapper.toDomain(entity)));
+        }
+        return products;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public boolean incrementVersion(Long id) {
+        return jpaRepository.incrementVersion(id) > 0;
+    }
+
+    @Override
+    public void incrementVersions(Collection<Long> ids) {
+        List<Long> requested = new ArrayList<>(ids);
+        for (int from = 0; from < requested.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            jpaRepository.incrementVersions(requested.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, requested.size())));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mango.products.application.port.out.ReactiveChangeEventOutbox;
+import com.mango.products.domain.model.ChangeEvent;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Writes change events to {@code outbox_events} through the R2DBC driver, on the connection of the
+ * surrounding reactive transaction. Events are published and read back by the JDBC side
+ * ({@link JdbcOutboxAdapter}), like those of the blocking use cases.
+ */
+public class R2dbcOutboxAdapter implements ReactiveChangeEventOutbox {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO outbox_events (event_type, product_id, payload) VALUES (:type, :productId, CAST(:payload AS jsonb))";
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    public R2dbcOutboxAdapter(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> append(List<ChangeEvent> events) {
+        return Flux.fromIterable(events)
+            .concatMap(event -> databaseClient.sql(INSERT_SQL)
+                .bind("type", event.type().name())
+                .bind("productId", event.productId())
+                .bind("payload", OutboxPayloads.toJson(objectMapper, event))
+                .fetch()
+                .rowsUpdated())
+            .then();
+    }
+}
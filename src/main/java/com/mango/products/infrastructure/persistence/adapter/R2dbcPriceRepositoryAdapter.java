@@ -0,0 +1,103 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.mango.products.application.port.out.ReactivePriceRepository;
+import com.mango.products.domain.model.Price;
+import com.mango.products.infrastructure.persistence.repository.JpaPriceRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+
+/**
+ * Runs the same SQL as the JPA adapter through the R2DBC driver: no thread is held while a
+ * statement is in flight.
+ */
+@Component
+@Profile("reactive")
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO product_prices (product_id, value, currency, init_date, end_date) " +
+        "VALUES (:productId, :value, :currency, :initDate, :endDate) RETURNING id";
+    private static final String SELECT_SQL =
+        "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices ";
+    private static final String NEWEST_FIRST = " ORDER BY init_date DESC, id DESC";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPriceRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Price> save(Price price) {
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_SQL)
+            .bind("productId", price.getProductId())
+            .bind("value", price.getValue())
+            .bind("currency", price.getCurrency().getCurrencyCode())
+            .bind("initDate", price.getInitDate());
+        insert = price.getEndDate() != null
+            ? insert.bind("endDate", price.getEndDate())
+            : insert.bindNull("endDate", LocalDate.class);
+        return insert.map(row -> row.get("id", Long.class))
+            .one()
+            .map(id -> Price.of(id, price.getProductId(), price.getValue(), price.getCurrency(),
+                price.getInitDate(), price.getEndDate()))
+            .onErrorMap(DataIntegrityViolationException.class,
+                e -> ConstraintViolations.translate("Data constraint violation while saving price", e));
+    }
+
+    @Override
+    public Flux<Price> findByProductId(Long productId) {
+        return databaseClient.sql(SELECT_SQL + "WHERE product_id = :productId" + NEWEST_FIRST)
+            .bind("productId", productId)
+            .map(R2dbcPriceRepositoryAdapter::toDomain)
+            .all();
+    }
+
+    @Override
+    public Flux<Price> findByProductIdAndCurrency(Long productId, String currencyCode) {
+        return databaseClient.sql(SELECT_SQL + "WHERE product_id = :productId AND currency = :currency" + NEWEST_FIRST)
+            .bind("productId", productId)
+            .bind("currency", currencyCode)
+            .map(R2dbcPriceRepositoryAdapter::toDomain)
+            .all();
+    }
+
+    @Override
+    public Flux<Price> findByProductIdAndDate(Long productId, LocalDate date) {
+        return databaseClient.sql(JpaPriceRepository.ACTIVE_ON_DATE_SQL + " ORDER BY currency")
+            .bind("productId", productId)
+            .bind("date", date)
+            .map(R2dbcPriceRepositoryAdapter::toDomain)
+            .all();
+    }
+
+    @Override
+    public Mono<Price> findByProductIdAndCurrencyAndDate(Long productId, String currencyCode, LocalDate date) {
+        return databaseClient.sql(JpaPriceRepository.ACTIVE_ON_DATE_BY_CURRENCY_SQL)
+            .bind("productId", productId)
+            .bind("currency", currencyCode)
+            .bind("date", date)
+            .map(R2dbcPriceRepositoryAdapter::toDomain)
+            .one();
+    }
+
+    private static Price toDomain(Readable row) {
+        return Price.of(
+            row.get("id", Long.class),
+            row.get("product_id", Long.class),
+            row.get("value", BigDecimal.class),
+            Currency.getInstance(row.get("currency", String.class)),
+            row.get("init_date", LocalDate.class),
+            row.get("end_date", LocalDate.class)
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.mango.products.infrastructure.persistence.adapter;
+
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.model.Product;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+public class R2dbcProductRepositoryAdapter implements ReactiveProductRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcProductRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        DatabaseClient.GenericExecuteSpec insert = databaseClient
+            .sql("INSERT INTO products (name, description, version) VALUES (:name, :description, :version) RETURNING id")
+            .bind("name", product.getName())
+            .bind("version", product.getVersion());
+        insert = product.getDescription() != null
+            ? insert.bind("description", product.getDescription())
+            : insert.bindNull("description", String.class);
+        return insert.map(row -> row.get("id", Long.class))
+            .one()
+            .map(id -> Product.of(id, product.getName(), product.getDescription(), product.getVersion()))
+            .onErrorMap(DataIntegrityViolationException.class,
+                e -> ConstraintViolations.translate("Data constraint violation while saving product", e));
+    }
+
+    @Override
+    public Mono<Product> findById(Long id) {
+        return databaseClient.sql("SELECT id, name, description, version FROM products WHERE id = :id")
+            .bind("id", id)
+            .map(R2dbcProductRepositoryAdapter::toDomain)
+            .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM products WHERE id = :id) AS present")
+            .bind("id", id)
+            .map(row -> row.get("present", Boolean.class))
+            .one();
+    }
+
+    @Override
+    public Mono<Boolean> incrementVersion(Long id) {
+        return databaseClient.sql("UPDATE products SET version = version + 1 WHERE id = :id")
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    private static Product toDomain(Readable row) {
+        return Product.of(
+            row.get("id", Long.class),
+            row.get("name", String.class),
+            row.get("description", String.class),
+            row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.mango.products.infrastructure.persistence.batching;
+
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.model.Product;
+import com.mango.products.infrastructure.persistence.routing.ReadYourWritesContext;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ProductRepository} decorator that resolves concurrent {@code findById}/{@code existsById}
+ * calls from different requests with a single {@code WHERE id IN (...)} query, through a
+ * {@link MicroBatcher}.
+ * <p>
+ * The batch query runs in its own read-only transaction on a dispatcher thread. Lookups made
+ * inside any transaction bypass the batcher: the caller already holds a pooled connection, and
+ * waiting for the dispatcher to take a second one would exhaust the pool under load (and a write
+ * transaction must see its own uncommitted rows anyway). Clients pinned to the primary after a
+ * write bypass it too, to see their just-committed rows.
+ */
+@Timed(value = "products.repository", histogram = true)
+public class BatchingProductRepository implements ProductRepository, AutoCloseable {
+
+    static final String BATCHER_NAME = "products";
+
+    private final ProductRepository delegate;
+    private final MicroBatcher<Long, Product> batcher;
+
+    public BatchingProductRepository(ProductRepository delegate, TransactionTemplate readOnlyTransaction,
+                                     Duration maxWait, int maxBatchSize, int dispatchThreads,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.batcher = new MicroBatcher<>(BATCHER_NAME,
+                ids -> readOnlyTransaction.execute(status -> loadAll(ids)),
+                maxWait, maxBatchSize, dispatchThreads, meterRegistry);
+    }
+
+    @Override
+    public Product save(Product product) {
+        return delegate.save(product);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        if (mustBypassBatcher()) {
+            return delegate.findById(id);
+        }
+        return Optional.ofNullable(batcher.load(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (mustBypassBatcher()) {
+            return delegate.existsById(id);
+        }
+        return batcher.load(id) != null;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public boolean incrementVersion(Long id) {
+        return delegate.incrementVersion(id);
+    }
+
+    @Override
+    public void incrementVersions(Collection<Long> ids) {
+        delegate.incrementVersions(ids);
+    }
+
+    @Override
+    public void close() {
+        batcher.close();
+    }
+
+    private Map<Long, Product> loadAll(Set<Long> ids) {
+        return delegate.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private static boolean mustBypassBatcher() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                || ReadYourWritesContext.isPinnedToPrimary();
+    }
+}
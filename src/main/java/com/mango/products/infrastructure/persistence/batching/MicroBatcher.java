@@ -0,0 +1,144 @@
+package com.mango.products.infrastructure.persistence.batching;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Collects single-key lookups from concurrent callers and resolves them with one bulk load:
+ * a batch is dispatched {@code maxWait} after its first key arrives, or as soon as it holds
+ * {@code maxBatchSize} distinct keys. Callers asking for the same key within a batch share
+ * its result.
+ * <p>
+ * The bulk loader runs on a dispatcher thread and returns the values it found by key; keys it
+ * leaves out resolve to {@code null}. If it throws, every caller in the batch gets the exception.
+ * <p>
+ * Records dispatched batch sizes in {@code products.batching.batch.size}, tagged by {@code name}.
+ */
+public final class MicroBatcher<K, V> implements AutoCloseable {
+
+    static final String METRIC_NAME = "products.batching.batch.size";
+
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final Duration maxWait;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService dispatcher;
+    private final DistributionSummary batchSizes;
+    // ReentrantLock rather than synchronized so waiting virtual threads are not pinned
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<K, CompletableFuture<V>> pending = new HashMap<>();
+
+    public MicroBatcher(String name, Function<Set<K>, Map<K, V>> loader, Duration maxWait, int maxBatchSize,
+                        int dispatchThreads, MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.loader = loader;
+        this.maxWait = maxWait;
+        this.maxBatchSize = maxBatchSize;
+        this.dispatcher = Executors.newScheduledThreadPool(dispatchThreads, daemonThreads(name));
+        this.batchSizes = DistributionSummary.builder(METRIC_NAME)
+                .description("Keys resolved per dispatched batch")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until the batch holding {@code key} has been loaded.
+     *
+     * @return the loaded value, or {@code null} if the loader did not find it
+     */
+    public V load(K key) {
+        try {
+            return enqueue(key).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<V> enqueue(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        lock.lock();
+        try {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            if (pending.isEmpty()) {
+                Map<K, CompletableFuture<V>> batch = pending;
+                dispatcher.schedule(() -> flush(batch), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new HashMap<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            Map<K, CompletableFuture<V>> batch = full;
+            dispatcher.execute(() -> dispatch(batch));
+        }
+        return future;
+    }
+
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                // Already dispatched because it filled up
+                return;
+            }
+            pending = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            Map<K, V> loaded = loader.apply(batch.keySet());
+            batch.forEach((key, future) -> future.complete(loaded.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdown();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "batcher-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.domain.model.Price;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The prices of a product active on some date, together with the range of days
+ * {@code [validFrom, validUntil)} over which that answer stays the same.
+ * <p>
+ * Prices start and end on whole days, so the active set can only change on the day a price
+ * starts or the day after one ends; {@code validUntil} is the first such day after the lookup
+ * date, or {@code null} when no price in the timeline starts or ends later.
+ */
+final class ActivePrices {
+
+    private final List<Price> prices;
+    private final LocalDate validFrom;
+    private final LocalDate validUntil;
+
+    private ActivePrices(List<Price> prices, LocalDate validFrom, LocalDate validUntil) {
+        this.prices = prices;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+    }
+
+    /**
+     * Resolves the prices active on {@code date} from the full price timeline of one product.
+     */
+    static ActivePrices on(LocalDate date, List<Price> timeline) {
+        List<Price> active = new ArrayList<>();
+        LocalDate validFrom = LocalDate.MIN;
+        LocalDate validUntil = null;
+        for (Price price : timeline) {
+            LocalDate start = price.getInitDate();
+            LocalDate end = price.getEndDate();
+            if (start.isAfter(date)) {
+                validUntil = earliest(validUntil, start);
+            } else if (end != null && end.isBefore(date)) {
+                validFrom = latest(validFrom, end.plusDays(1));
+            } else {
+                active.add(price);
+                validFrom = latest(validFrom, start);
+                if (end != null) {
+                    validUntil = earliest(validUntil, end.plusDays(1));
+                }
+            }
+        }
+        active.sort(Comparator.comparing(Price::getInitDate).reversed());
+        return new ActivePrices(List.copyOf(active), validFrom, validUntil);
+    }
+
+    boolean isValidOn(LocalDate date) {
+        return !date.isBefore(validFrom) && (validUntil == null || date.isBefore(validUntil));
+    }
+
+    List<Price> all() {
+        return prices;
+    }
+
+    Optional<Price> byCurrency(String currencyCode) {
+        return prices.stream()
+                .filter(price -> price.getCurrency().getCurrencyCode().equals(currencyCode))
+                .findFirst();
+    }
+
+    /**
+     * @param currencyCode the currency to keep, {@code null} for every currency
+     */
+    List<Price> inCurrency(String currencyCode) {
+        if (currencyCode == null) {
+            return prices;
+        }
+        return prices.stream()
+                .filter(price -> price.getCurrency().getCurrencyCode().equals(currencyCode))
+                .toList();
+    }
+
+    private static LocalDate earliest(LocalDate current, LocalDate candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static LocalDate latest(LocalDate current, LocalDate candidate) {
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
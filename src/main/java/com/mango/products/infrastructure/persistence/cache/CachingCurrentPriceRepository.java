@@ -0,0 +1,201 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * {@link PriceRepository} decorator that caches, per product, the prices active today.
+ * <p>
+ * A fixed TTL would keep serving a price after it ends, so each entry is instead valid until the
+ * first day on which the active set changes: the day after an active price ends or the day a later
+ * price starts, computed from the product's timeline when the entry is loaded. Lookups for any date
+ * inside that window are answered from the entry, so "today" keeps hitting across midnight for as
+ * long as the answer does not change.
+ * <p>
+ * Only lookups for the current date populate the cache, including the batch lookup of many
+ * products; other single-product dates hit it when they fall inside the window and otherwise go to
+ * the delegate. Saving a price evicts the product immediately and
+ * again once the surrounding transaction completes, like {@link CachingPriceRepository}.
+ */
+@Timed(value = "products.repository", histogram = true)
+public class CachingCurrentPriceRepository implements PriceRepository, ProductScopedCache, MeterBinder {
+
+    static final String CACHE_NAME = "current-prices";
+
+    private final PriceRepository delegate;
+    private final LruCache<Long, ActivePrices> cache;
+    private final Clock clock;
+
+    public CachingCurrentPriceRepository(PriceRepository delegate, int maxProducts, Clock clock) {
+        this.delegate = delegate;
+        this.cache = new LruCache<>(maxProducts);
+        this.clock = clock;
+    }
+
+    @Override
+    public Price save(Price price) {
+        Price saved = delegate.save(price);
+        invalidate(price.getProductId());
+        return saved;
+    }
+
+    @Override
+    public void saveAll(List<Price> prices) {
+        delegate.saveAll(prices);
+        prices.stream()
+                .map(Price::getProductId)
+                .distinct()
+                .forEach(this::invalidate);
+    }
+
+    @Override
+    public List<Price> findByProductId(Long productId) {
+        return delegate.findByProductId(productId);
+    }
+
+    @Override
+    public List<Price> findByProductIds(Collection<Long> productIds) {
+        return delegate.findByProductIds(productIds);
+    }
+
+    @Override
+    public List<Price> findByProductIdAndCurrency(Long productId, String currencyCode) {
+        return delegate.findByProductIdAndCurrency(productId, currencyCode);
+    }
+
+    @Override
+    public List<Price> findByProductIdAndDate(Long productId, LocalDate date) {
+        ActivePrices active = activeOn(productId, date);
+        return active != null ? active.all() : delegate.findByProductIdAndDate(productId, date);
+    }
+
+    @Override
+    public Optional<Price> findByProductIdAndCurrencyAndDate(Long productId, String currencyCode, LocalDate date) {
+        ActivePrices active = activeOn(productId, date);
+        return active != null
+                ? active.byCurrency(currencyCode)
+                : delegate.findByProductIdAndCurrencyAndDate(productId, currencyCode, date);
+    }
+
+    /**
+     * For the current date, answers cached products from their entries and loads the timelines of
+     * the others with one {@link PriceRepository#findByProductIds} call, caching them too. Products
+     * without any price go to the delegate, the only one that can tell them apart from unknown products.
+     */
+    @Override
+    public Map<Long, List<Price>> findActiveByProductIds(Collection<Long> productIds, String currencyCode, LocalDate date) {
+        LocalDate today = LocalDate.now(clock);
+        if (!cacheable() || !date.equals(today)) {
+            return delegate.findActiveByProductIds(productIds, currencyCode, date);
+        }
+        Map<Long, List<Price>> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long productId : productIds) {
+            ActivePrices active = cache.get(productId);
+            if (active != null && active.isValidOn(today)) {
+                result.put(productId, active.inCurrency(currencyCode));
+            } else {
+                missing.add(productId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long stamp = cache.stamp();
+        Map<Long, List<Price>> timelines = delegate.findByProductIds(missing).stream()
+                .collect(Collectors.groupingBy(Price::getProductId));
+        Set<Long> withoutPrices = missing.stream()
+                .filter(productId -> !timelines.containsKey(productId))
+                .collect(Collectors.toSet());
+        if (!withoutPrices.isEmpty()) {
+            delegate.findActiveByProductIds(withoutPrices, currencyCode, date)
+                    .keySet()
+                    .forEach(productId -> timelines.put(productId, List.of()));
+        }
+        timelines.forEach((productId, timeline) -> {
+            ActivePrices active = ActivePrices.on(today, timeline);
+            cache.putIfFresh(productId, active, stamp);
+            result.put(productId, active.inCurrency(currencyCode));
+        });
+        return result;
+    }
+
+    @Override
+    public List<Price> findPageByProductId(Long productId, String currencyCode, PriceCursor after, int limit) {
+        return delegate.findPageByProductId(productId, currencyCode, after, limit);
+    }
+
+    @Override
+    public void forEachByProductId(Long productId, String currencyCode, Consumer<Price> consumer) {
+        delegate.forEachByProductId(productId, currencyCode, consumer);
+    }
+
+    @Override
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(productId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new LruCacheMetrics(cache, CACHE_NAME).bindTo(registry);
+    }
+
+    /**
+     * @return the cached or freshly loaded active prices, or {@code null} when the lookup
+     *         must go to the delegate
+     */
+    private ActivePrices activeOn(Long productId, LocalDate date) {
+        if (!cacheable()) {
+            return null;
+        }
+        LocalDate today = LocalDate.now(clock);
+        ActivePrices active = cache.get(productId);
+        if (active != null && active.isValidOn(today) && active.isValidOn(date)) {
+            return active;
+        }
+        if (!date.equals(today)) {
+            return null;
+        }
+        long stamp = cache.stamp();
+        active = ActivePrices.on(today, delegate.findByProductId(productId));
+        cache.putIfFresh(productId, active, stamp);
+        return active;
+    }
+
+    private static boolean cacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
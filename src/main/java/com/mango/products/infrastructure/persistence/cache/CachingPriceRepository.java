@@ -0,0 +1,148 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link PriceRepository} decorator that keeps a bounded, LRU-evicted in-memory
+ * {@link ProductPriceTimeline} per product and answers every read from it.
+ * <p>
+ * Reads issued inside a read-write transaction bypass the cache, so writers always validate
+ * against the database. Saving a price evicts the product immediately and again once the
+ * surrounding transaction completes, so concurrent readers cannot re-cache a stale timeline.
+ */
+@Timed(value = "products.repository", histogram = true)
+public class CachingPriceRepository implements PriceRepository, ProductScopedCache, MeterBinder {
+
+    static final String CACHE_NAME = "prices";
+
+    private final PriceRepository delegate;
+    private final LruCache<Long, ProductPriceTimeline> cache;
+
+    public CachingPriceRepository(PriceRepository delegate, int maxProducts) {
+        this.delegate = delegate;
+        this.cache = new LruCache<>(maxProducts);
+    }
+
+    @Override
+    public Price save(Price price) {
+        Price saved = delegate.save(price);
+        invalidate(price.getProductId());
+        return saved;
+    }
+
+    @Override
+    public void saveAll(List<Price> prices) {
+        delegate.saveAll(prices);
+        prices.stream()
+                .map(Price::getProductId)
+                .distinct()
+                .forEach(this::invalidate);
+    }
+
+    @Override
+    public List<Price> findByProductId(Long productId) {
+        if (!cacheable()) {
+            return delegate.findByProductId(productId);
+        }
+        return timeline(productId).all();
+    }
+
+    @Override
+    public List<Price> findByProductIds(Collection<Long> productIds) {
+        // Bulk reads feed imports, which run in read-write transactions and must see the database
+        return delegate.findByProductIds(productIds);
+    }
+
+    @Override
+    public List<Price> findByProductIdAndCurrency(Long productId, String currencyCode) {
+        if (!cacheable()) {
+            return delegate.findByProductIdAndCurrency(productId, currencyCode);
+        }
+        return timeline(productId).byCurrency(currencyCode);
+    }
+
+    @Override
+    public List<Price> findByProductIdAndDate(Long productId, LocalDate date) {
+        if (!cacheable()) {
+            return delegate.findByProductIdAndDate(productId, date);
+        }
+        return timeline(productId).activeOn(date);
+    }
+
+    @Override
+    public Optional<Price> findByProductIdAndCurrencyAndDate(Long productId, String currencyCode, LocalDate date) {
+        if (!cacheable()) {
+            return delegate.findByProductIdAndCurrencyAndDate(productId, currencyCode, date);
+        }
+        return timeline(productId).activeOn(currencyCode, date);
+    }
+
+    @Override
+    public Map<Long, List<Price>> findActiveByProductIds(Collection<Long> productIds, String currencyCode, LocalDate date) {
+        // One statement for the whole batch beats loading up to a few hundred timelines on misses
+        return delegate.findActiveByProductIds(productIds, currencyCode, date);
+    }
+
+    @Override
+    public List<Price> findPageByProductId(Long productId, String currencyCode, PriceCursor after, int limit) {
+        // Pages are bounded index range scans already; not worth a second copy of the history
+        return delegate.findPageByProductId(productId, currencyCode, after, limit);
+    }
+
+    @Override
+    public void forEachByProductId(Long productId, String currencyCode, Consumer<Price> consumer) {
+        delegate.forEachByProductId(productId, currencyCode, consumer);
+    }
+
+    @Override
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(productId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new LruCacheMetrics(cache, CACHE_NAME).bindTo(registry);
+    }
+
+    private ProductPriceTimeline timeline(Long productId) {
+        ProductPriceTimeline timeline = cache.get(productId);
+        if (timeline == null) {
+            long stamp = cache.stamp();
+            timeline = ProductPriceTimeline.of(delegate.findByProductId(productId));
+            cache.putIfFresh(productId, timeline, stamp);
+        }
+        return timeline;
+    }
+
+    private static boolean cacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
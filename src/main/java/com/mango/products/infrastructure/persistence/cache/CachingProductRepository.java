@@ -0,0 +1,150 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.model.Product;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link ProductRepository} decorator that caches found products and, for a short TTL,
+ * the IDs known to be absent, so repeated 404 lookups do not reach the database.
+ * <p>
+ * Saving a product or bumping its version drops any entry for its ID, both immediately and once
+ * the surrounding transaction completes. Version lookups are answered from a cached product.
+ */
+@Timed(value = "products.repository", histogram = true)
+public class CachingProductRepository implements ProductRepository, ProductScopedCache, MeterBinder {
+
+    static final String CACHE_NAME = "products";
+    static final String ABSENT_CACHE_NAME = "products.absent";
+
+    private final ProductRepository delegate;
+    private final LruCache<Long, Product> found;
+    private final LruCache<Long, Instant> absent;
+    private final Duration absentTtl;
+    private final Clock clock;
+
+    public CachingProductRepository(ProductRepository delegate, int maxEntries, int maxAbsentEntries,
+                                    Duration absentTtl, Clock clock) {
+        this.delegate = delegate;
+        this.found = new LruCache<>(maxEntries);
+        this.absent = new LruCache<>(maxAbsentEntries);
+        this.absentTtl = absentTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        Product cached = found.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (isKnownAbsent(id)) {
+            return Optional.empty();
+        }
+
+        long foundStamp = found.stamp();
+        long absentStamp = absent.stamp();
+        Optional<Product> product = delegate.findById(id);
+        if (product.isPresent()) {
+            found.putIfFresh(id, product.get(), foundStamp);
+        } else {
+            absent.putIfFresh(id, clock.instant().plus(absentTtl), absentStamp);
+        }
+        return product;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        Product cached = found.get(id);
+        if (cached != null) {
+            return Optional.of(cached.getVersion());
+        }
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public boolean incrementVersion(Long id) {
+        boolean incremented = delegate.incrementVersion(id);
+        invalidate(id);
+        return incremented;
+    }
+
+    @Override
+    public void incrementVersions(Collection<Long> ids) {
+        delegate.incrementVersions(ids);
+        ids.forEach(this::invalidate);
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        found.invalidate(id);
+        absent.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    found.invalidate(id);
+                    absent.invalidate(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        found.invalidateAll();
+        absent.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new LruCacheMetrics(found, CACHE_NAME).bindTo(registry);
+        new LruCacheMetrics(absent, ABSENT_CACHE_NAME).bindTo(registry);
+    }
+
+    private boolean isKnownAbsent(Long id) {
+        Instant expiresAt = absent.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(expiresAt)) {
+            absent.invalidate(id);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,106 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe LRU map with hit/miss/eviction counters.
+ * <p>
+ * Every invalidation bumps a stamp, so a value loaded before a concurrent invalidation
+ * can be discarded instead of re-populating the cache with stale data.
+ */
+class LruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+    private final AtomicLong stamp = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be greater than zero");
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    V get(K key) {
+        V value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    long stamp() {
+        return stamp.get();
+    }
+
+    /**
+     * Stores the value only if no invalidation happened since {@code loadStamp} was taken.
+     */
+    void putIfFresh(K key, V value, long loadStamp) {
+        synchronized (entries) {
+            if (stamp.get() != loadStamp) {
+                return;
+            }
+            entries.put(key, value);
+        }
+        puts.increment();
+    }
+
+    void invalidate(K key) {
+        synchronized (entries) {
+            stamp.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    void invalidateAll() {
+        synchronized (entries) {
+            stamp.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long putCount() {
+        return puts.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+}
@@ -0,0 +1,31 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The product-scoped caches created by the repository configurations. They are wrapped inside
+ * the {@code @Primary} repositories, so they are registered here to be reachable for eviction.
+ */
+@Component
+public class ProductCacheRegistry {
+
+    private final List<ProductScopedCache> caches = new CopyOnWriteArrayList<>();
+
+    public void register(ProductScopedCache cache) {
+        caches.add(cache);
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        for (ProductScopedCache cache : caches) {
+            productIds.forEach(cache::invalidate);
+        }
+    }
+
+    public void invalidateAll() {
+        caches.forEach(ProductScopedCache::invalidateAll);
+    }
+}
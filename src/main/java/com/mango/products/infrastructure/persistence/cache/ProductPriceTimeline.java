@@ -0,0 +1,64 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceTimeline;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of every price of a product, split into one {@link PriceTimeline} per currency.
+ * Lists are returned newest first, the same order the database returns them.
+ */
+final class ProductPriceTimeline {
+
+    private final List<Price> all;
+    private final Map<String, PriceTimeline> byCurrency;
+
+    private ProductPriceTimeline(List<Price> all, Map<String, PriceTimeline> byCurrency) {
+        this.all = all;
+        this.byCurrency = byCurrency;
+    }
+
+    static ProductPriceTimeline of(List<Price> prices) {
+        List<Price> sorted = new ArrayList<>(prices);
+        sorted.sort(Comparator.comparing(Price::getInitDate).reversed());
+
+        Map<String, List<Price>> grouped = new LinkedHashMap<>();
+        for (Price price : sorted) {
+            grouped.computeIfAbsent(price.getCurrency().getCurrencyCode(), c -> new ArrayList<>()).add(price);
+        }
+        Map<String, PriceTimeline> timelines = new LinkedHashMap<>();
+        grouped.forEach((currency, currencyPrices) -> timelines.put(currency, PriceTimeline.of(currencyPrices)));
+        return new ProductPriceTimeline(List.copyOf(sorted), timelines);
+    }
+
+    List<Price> all() {
+        return all;
+    }
+
+    List<Price> byCurrency(String currencyCode) {
+        return timeline(currencyCode).getPrices().reversed();
+    }
+
+    List<Price> activeOn(LocalDate date) {
+        List<Price> active = new ArrayList<>();
+        for (PriceTimeline timeline : byCurrency.values()) {
+            timeline.findActiveOn(date).ifPresent(active::add);
+        }
+        return active;
+    }
+
+    Optional<Price> activeOn(String currencyCode, LocalDate date) {
+        return timeline(currencyCode).findActiveOn(date);
+    }
+
+    private PriceTimeline timeline(String currencyCode) {
+        return byCurrency.getOrDefault(currencyCode, PriceTimeline.empty());
+    }
+}
@@ -0,0 +1,12 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+/**
+ * An in-process cache whose entries can be evicted per product, e.g. when another instance
+ * reports that the product changed.
+ */
+public interface ProductScopedCache {
+
+    void invalidate(Long productId);
+
+    void invalidateAll();
+}
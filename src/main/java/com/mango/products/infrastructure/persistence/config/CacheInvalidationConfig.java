@@ -0,0 +1,40 @@
+package com.mango.products.infrastructure.persistence.config;
+
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.infrastructure.persistence.cache.ProductCacheRegistry;
+import com.mango.products.infrastructure.persistence.invalidation.PgNotifyProductChangePublisher;
+import com.mango.products.infrastructure.persistence.invalidation.ProductChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    public ProductChangePublisher productChangePublisher(
+            JdbcTemplate jdbcTemplate,
+            @Value("${products.cache.invalidation.enabled:false}") boolean invalidationEnabled) {
+        return invalidationEnabled ? new PgNotifyProductChangePublisher(jdbcTemplate) : ProductChangePublisher.noop();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "products.cache.invalidation.enabled", havingValue = "true")
+    public ProductChangeListener productChangeListener(
+            DataSourceProperties properties,
+            ProductCacheRegistry caches,
+            MeterRegistry meterRegistry,
+            @Value("${products.cache.invalidation.max-staleness:5s}") Duration maxStaleness) {
+        // Straight from the driver: LISTEN holds its connection for good, and only the primary notifies
+        ProductChangeListener.ConnectionFactory connectionFactory = () -> DriverManager.getConnection(
+                properties.determineUrl(), properties.determineUsername(), properties.determinePassword());
+        return new ProductChangeListener(connectionFactory, caches, maxStaleness, meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.mango.products.infrastructure.persistence.config;
+
+import com.mango.products.infrastructure.observability.SqlStatementTracker;
+import com.mango.products.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.mango.products.infrastructure.rest.config.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${products.datasource.replicas.urls:}") List<String> replicaUrls,
+            @Value("${products.datasource.replicas.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${products.datasource.replicas.failure-cooldown:30s}") Duration failureCooldown) {
+        HikariDataSource primary = pool(properties, environment, meterRegistry, properties.determineUrl(), "primary");
+        if (replicaUrls.isEmpty()) {
+            return tracked(primary);
+        }
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = pool(properties, environment, meterRegistry, replicaUrls.get(i), "replica-" + (i + 1));
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replicas.add(replica);
+        }
+        return tracked(new ReplicaRoutingDataSource(primary, replicas, failureCooldown, Clock.systemUTC()));
+    }
+
+    // Pins reads to the primary only matter when there are replicas to route them to
+    @Bean
+    @ConditionalOnExpression("!'${products.datasource.replicas.urls:}'.isBlank()")
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${products.datasource.replicas.read-your-writes-window:0s}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+
+    // Per-request statement counts, see SqlStatementTracker
+    private static DataSource tracked(DataSource dataSource) {
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name("products")
+                .listener(new SqlStatementTracker())
+                .build();
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+                                         MeterRegistry meterRegistry, String url, String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        // Same spring.datasource.hikari.* settings for every pool, as Boot would apply to the primary
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        // hikaricp.connections.* meters, tagged pool=<poolName>
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
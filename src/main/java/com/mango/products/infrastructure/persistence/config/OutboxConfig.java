@@ -0,0 +1,47 @@
+package com.mango.products.infrastructure.persistence.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.infrastructure.persistence.adapter.JdbcOutboxAdapter;
+import com.mango.products.infrastructure.persistence.outbox.OutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class OutboxConfig {
+
+    // Also the ChangeFeedRepository: the feed can be read whether or not events are being written
+    @Bean
+    public JdbcOutboxAdapter outboxAdapter(JdbcTemplate jdbcTemplate, JdbcClient jdbcClient, ObjectMapper objectMapper) {
+        return new JdbcOutboxAdapter(jdbcTemplate, jdbcClient, objectMapper);
+    }
+
+    @Bean
+    @Primary
+    public ChangeEventOutbox changeEventOutbox(
+            JdbcOutboxAdapter adapter,
+            @Value("${products.outbox.enabled:false}") boolean outboxEnabled) {
+        return outboxEnabled ? adapter : ChangeEventOutbox.disabled();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "products.outbox.enabled", havingValue = "true")
+    public OutboxRelay outboxRelay(
+            JdbcOutboxAdapter adapter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${products.outbox.relay.interval:1s}") Duration interval,
+            @Value("${products.outbox.relay.batch-size:500}") int batchSize) {
+        return new OutboxRelay(adapter, new TransactionTemplate(transactionManager), interval, batchSize, meterRegistry);
+    }
+}
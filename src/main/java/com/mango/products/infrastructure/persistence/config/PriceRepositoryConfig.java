@@ -0,0 +1,49 @@
+package com.mango.products.infrastructure.persistence.config;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.infrastructure.persistence.adapter.JdbcPriceReadAdapter;
+import com.mango.products.infrastructure.persistence.adapter.PriceRepositoryAdapter;
+import com.mango.products.infrastructure.persistence.cache.CachingCurrentPriceRepository;
+import com.mango.products.infrastructure.persistence.cache.CachingPriceRepository;
+import com.mango.products.infrastructure.persistence.cache.ProductCacheRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.Clock;
+
+@Configuration
+public class PriceRepositoryConfig {
+
+    @Bean
+    @Primary
+    public PriceRepository priceRepository(
+            PriceRepositoryAdapter adapter,
+            JdbcClient jdbcClient,
+            MeterRegistry meterRegistry,
+            ProductCacheRegistry cacheRegistry,
+            @Value("${products.prices.jdbc-reads.enabled:false}") boolean jdbcReadsEnabled,
+            @Value("${products.cache.prices.enabled:false}") boolean cacheEnabled,
+            @Value("${products.cache.prices.max-products:10000}") int maxProducts,
+            @Value("${products.cache.current-prices.enabled:false}") boolean currentPricesCacheEnabled,
+            @Value("${products.cache.current-prices.max-products:10000}") int maxCurrentPriceProducts) {
+        PriceRepository repository = jdbcReadsEnabled ? new JdbcPriceReadAdapter(adapter, jdbcClient) : adapter;
+        if (cacheEnabled) {
+            CachingPriceRepository cachingRepository = new CachingPriceRepository(repository, maxProducts);
+            cachingRepository.bindTo(meterRegistry);
+            cacheRegistry.register(cachingRepository);
+            repository = cachingRepository;
+        }
+        if (currentPricesCacheEnabled) {
+            CachingCurrentPriceRepository currentPriceRepository =
+                    new CachingCurrentPriceRepository(repository, maxCurrentPriceProducts, Clock.systemDefaultZone());
+            currentPriceRepository.bindTo(meterRegistry);
+            cacheRegistry.register(currentPriceRepository);
+            repository = currentPriceRepository;
+        }
+        return repository;
+    }
+}
@@ -0,0 +1,53 @@
+package com.mango.products.infrastructure.persistence.config;
+
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.infrastructure.persistence.adapter.ProductRepositoryAdapter;
+import com.mango.products.infrastructure.persistence.batching.BatchingProductRepository;
+import com.mango.products.infrastructure.persistence.cache.CachingProductRepository;
+import com.mango.products.infrastructure.persistence.cache.ProductCacheRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class ProductRepositoryConfig {
+
+    @Bean
+    @Primary
+    public ProductRepository productRepository(
+            ProductRepositoryAdapter adapter,
+            MeterRegistry meterRegistry,
+            ProductCacheRegistry cacheRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${products.batching.products.enabled:false}") boolean batchingEnabled,
+            @Value("${products.batching.products.max-wait:2ms}") Duration batchMaxWait,
+            @Value("${products.batching.products.max-batch-size:100}") int maxBatchSize,
+            @Value("${products.batching.products.dispatch-threads:4}") int dispatchThreads,
+            @Value("${products.cache.products.enabled:false}") boolean cacheEnabled,
+            @Value("${products.cache.products.max-entries:10000}") int maxEntries,
+            @Value("${products.cache.products.max-absent-entries:10000}") int maxAbsentEntries,
+            @Value("${products.cache.products.absent-ttl:30s}") Duration absentTtl) {
+        ProductRepository repository = adapter;
+        if (batchingEnabled) {
+            TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+            repository = new BatchingProductRepository(
+                    repository, readOnlyTransaction, batchMaxWait, maxBatchSize, dispatchThreads, meterRegistry);
+        }
+        if (!cacheEnabled) {
+            return repository;
+        }
+        CachingProductRepository cachingRepository = new CachingProductRepository(
+                repository, maxEntries, maxAbsentEntries, absentTtl, Clock.systemUTC());
+        cachingRepository.bindTo(meterRegistry);
+        cacheRegistry.register(cachingRepository);
+        return cachingRepository;
+    }
+}
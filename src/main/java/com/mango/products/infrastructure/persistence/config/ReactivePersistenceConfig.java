@@ -0,0 +1,33 @@
+package com.mango.products.infrastructure.persistence.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mango.products.application.port.out.ReactiveChangeEventOutbox;
+import com.mango.products.infrastructure.persistence.adapter.R2dbcOutboxAdapter;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+@Configuration
+@Profile("reactive")
+public class ReactivePersistenceConfig {
+
+    // The R2DBC transaction manager is deliberately not a bean: a second TransactionManager would
+    // make the JPA one back off, and the blocking use cases still rely on @Transactional
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public ReactiveChangeEventOutbox reactiveChangeEventOutbox(
+            DatabaseClient databaseClient,
+            ObjectMapper objectMapper,
+            @Value("${products.outbox.enabled:false}") boolean outboxEnabled) {
+        return outboxEnabled ? new R2dbcOutboxAdapter(databaseClient, objectMapper) : ReactiveChangeEventOutbox.disabled();
+    }
+}
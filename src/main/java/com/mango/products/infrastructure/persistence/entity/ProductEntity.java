@@ -22,6 +22,10 @@ public class ProductEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // Bumped with bulk UPDATEs by the adapter, not a JPA @Version: products are never updated through the entity
+    @Column(nullable = false)
+    private long version;
+
     public ProductEntity(String name, String description) {
         this.name = name;
         this.description = description;
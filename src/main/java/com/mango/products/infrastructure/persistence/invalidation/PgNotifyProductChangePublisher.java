@@ -0,0 +1,73 @@
+package com.mango.products.infrastructure.persistence.invalidation;
+
+import com.mango.products.application.port.out.ProductChangePublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Publishes product changes with {@code pg_notify} on the {@value ProductChangeNotifications#CHANNEL}
+ * channel.
+ * <p>
+ * The IDs changed by a transaction are collected and sent in one statement right before it
+ * commits, on the transaction's connection. PostgreSQL holds notifications back until the transaction
+ * commits and drops them on rollback, so listeners never evict for a write they cannot see yet.
+ */
+public class PgNotifyProductChangePublisher implements ProductChangePublisher {
+
+    private static final String NOTIFY_SQL =
+            "SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PgNotifyProductChangePublisher(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void productsChanged(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendNotifications(productIds);
+            return;
+        }
+        pendingInCurrentTransaction().addAll(productIds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendingInCurrentTransaction() {
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                sendNotifications(ids);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PgNotifyProductChangePublisher.this);
+            }
+        });
+        return ids;
+    }
+
+    private void sendNotifications(Collection<Long> productIds) {
+        List<String> payloads = ProductChangeNotifications.encode(productIds);
+        jdbcTemplate.query(NOTIFY_SQL, statement -> {
+            statement.setString(1, ProductChangeNotifications.CHANNEL);
+            statement.setArray(2, statement.getConnection().createArrayOf("text", payloads.toArray()));
+        }, resultSet -> { });
+    }
+}
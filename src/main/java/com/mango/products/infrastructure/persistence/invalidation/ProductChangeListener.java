@@ -0,0 +1,167 @@
+package com.mango.products.infrastructure.persistence.invalidation;
+
+import com.mango.products.infrastructure.persistence.cache.ProductCacheRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Evicts local cache entries for the products other instances report as changed, listening on
+ * the {@value ProductChangeNotifications#CHANNEL} channel over a dedicated, unpooled connection.
+ * <p>
+ * Staleness is bounded by {@code maxStaleness}: the listener waits at most that long for a
+ * notification before checking the connection is still alive, and notifications sent while it
+ * is disconnected are lost, so every local cache is flushed when the connection drops, on every
+ * failed reconnect attempt and once {@code LISTEN} is active again.
+ */
+public class ProductChangeListener implements SmartLifecycle {
+
+    static final String RECEIVED_METRIC = "products.cache.invalidation.received";
+    static final String FLUSHES_METRIC = "products.cache.invalidation.flushes";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeListener.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final ProductCacheRegistry caches;
+    private final Duration maxStaleness;
+    private final Counter received;
+    private final Counter flushes;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public ProductChangeListener(ConnectionFactory connectionFactory, ProductCacheRegistry caches,
+                                 Duration maxStaleness, MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.caches = caches;
+        this.maxStaleness = maxStaleness;
+        this.received = Counter.builder(RECEIVED_METRIC)
+                .description("Product change notifications received from other instances")
+                .register(meterRegistry);
+        this.flushes = Counter.builder(FLUSHES_METRIC)
+                .description("Full local cache flushes after losing the notification connection")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("product-changes-listener").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection listening = connectionFactory.connect()) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + ProductChangeNotifications.CHANNEL);
+                }
+                // Anything published while we were not listening is lost
+                flushAll();
+                log.info("Listening for product changes on channel {}", ProductChangeNotifications.CHANNEL);
+                listen(listening);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Product change listener disconnected, flushing local caches and retrying in {}",
+                        maxStaleness, e);
+                flushAll();
+                if (!sleep(maxStaleness)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection listening) throws SQLException {
+        PGConnection pgConnection = listening.unwrap(PGConnection.class);
+        int timeoutMillis = (int) maxStaleness.toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                // A silently dropped connection never delivers anything: prove it is still alive
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                received.increment();
+                evict(notification.getParameter());
+            }
+        }
+    }
+
+    private void evict(String payload) {
+        try {
+            caches.invalidate(ProductChangeNotifications.decode(payload));
+        } catch (NumberFormatException e) {
+            log.warn("Unreadable product change notification '{}', flushing local caches", payload);
+            flushAll();
+        }
+    }
+
+    private void flushAll() {
+        caches.invalidateAll();
+        flushes.increment();
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Could not close product change listener connection", e);
+        }
+    }
+
+    /**
+     * Opens the connection {@code LISTEN} runs on. It is held for the listener's lifetime, so it
+     * must not come from the application's pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection connect() throws SQLException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mango.products.infrastructure.persistence.invalidation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Wire format of the {@value #CHANNEL} notifications: comma-separated product IDs, split so
+ * that no payload exceeds PostgreSQL's 8000-byte limit.
+ */
+final class ProductChangeNotifications {
+
+    static final String CHANNEL = "product_changes";
+
+    // 19 digits and a comma per ID stays well below the 8000-byte payload limit
+    static final int MAX_IDS_PER_PAYLOAD = 300;
+
+    private ProductChangeNotifications() {
+    }
+
+    static List<String> encode(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        List<String> payloads = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_PAYLOAD) {
+            payloads.add(ids.subList(from, Math.min(from + MAX_IDS_PER_PAYLOAD, ids.size())).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+        return payloads;
+    }
+
+    /**
+     * @throws NumberFormatException if the payload was not written by {@link #encode}
+     */
+    static Set<Long> decode(String payload) {
+        return Arrays.stream(payload.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+}
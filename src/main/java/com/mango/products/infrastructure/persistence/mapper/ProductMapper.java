@@ -12,7 +12,8 @@ public class ProductMapper {
         return Product.of(
             entity.getId(),
             entity.getName(),
-            entity.getDescription()
+            entity.getDescription(),
+            entity.getVersion()
         );
     }
 
@@ -25,6 +26,7 @@ public class ProductMapper {
             domain.getDescription()
         );
         entity.setId(domain.getId());
+        entity.setVersion(domain.getVersion());
         return entity;
     }
 }
@@ -0,0 +1,99 @@
+package com.mango.products.infrastructure.persistence.outbox;
+
+import com.mango.products.infrastructure.persistence.adapter.JdbcOutboxAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves outbox events onto the change feed: every {@code interval} it publishes pending events
+ * in batches of {@code batchSize}, each batch in its own transaction, until none are left.
+ * <p>
+ * Every instance runs a relay; the advisory lock taken by
+ * {@link JdbcOutboxAdapter#publishPending(int)} lets only one of them publish at a time.
+ */
+public class OutboxRelay implements SmartLifecycle {
+
+    static final String PUBLISHED_METRIC = "products.outbox.published";
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final JdbcOutboxAdapter outbox;
+    private final TransactionTemplate transaction;
+    private final Duration interval;
+    private final int batchSize;
+    private final Counter published;
+
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(JdbcOutboxAdapter outbox, TransactionTemplate transaction, Duration interval, int batchSize,
+                       MeterRegistry meterRegistry) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Outbox relay batch size must be greater than zero");
+        }
+        this.outbox = outbox;
+        this.transaction = transaction;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.published = Counter.builder(PUBLISHED_METRIC)
+                .description("Outbox events published on the change feed by this instance")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("outbox-relay").factory());
+        scheduler.scheduleWithFixedDelay(this::relaySafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Publishes batches until fewer than {@code batchSize} events were pending.
+     *
+     * @return the number of events published
+     */
+    public int relay() {
+        int total = 0;
+        int count;
+        do {
+            Integer batch = transaction.execute(status -> outbox.publishPending(batchSize));
+            count = batch == null ? 0 : batch;
+            total += count;
+        } while (count == batchSize);
+        published.increment(total);
+        return total;
+    }
+
+    private void relaySafely() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            // Pending events stay in the outbox and are picked up by the next run
+            log.warn("Outbox relay run failed, retrying in {}", interval, e);
+        }
+    }
+}
@@ -1,33 +1,105 @@
 package com.mango.products.infrastructure.persistence.repository;
 
 import com.mango.products.infrastructure.persistence.entity.PriceEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface JpaPriceRepository extends JpaRepository<PriceEntity, Long> {
 
+    int STREAM_FETCH_SIZE = 500;
+
     List<PriceEntity> findByProductIdOrderByInitDateDesc(Long productId);
 
     List<PriceEntity> findByProductIdAndCurrencyOrderByInitDateDesc(Long productId, String currency);
 
-    @Query("SELECT p FROM PriceEntity p WHERE p.productId = :productId " +
-           "AND p.initDate <= :date " +
-           "AND (p.endDate IS NULL OR p.endDate >= :date)")
+    // Loaded in bulk inside write transactions: keep them out of dirty checking
+
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<PriceEntity> findByProductIdIn(Collection<Long> productIds);
+
+    // Server-side cursor reads (PostgreSQL only uses a cursor inside a transaction with a fetch size)
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<PriceEntity> streamByProductIdOrderByInitDateDesc(Long productId);
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<PriceEntity> streamByProductIdAndCurrencyOrderByInitDateDesc(Long productId, String currency);
+
+    // Point-in-time lookups use range containment on the generated `period` column, so they are served
+    // by the GiST indexes: ix_product_period (product_id, period) and the one backing the
+    // ux_product_period_currency exclusion constraint (product_id, currency, period)
+
+    String ACTIVE_ON_DATE_SQL =
+        "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices " +
+        "WHERE product_id = :productId AND period @> CAST(:date AS date)";
+
+    String ACTIVE_ON_DATE_BY_CURRENCY_SQL =
+        "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices " +
+        "WHERE product_id = :productId AND currency = :currency AND period @> CAST(:date AS date)";
+
+    @Query(value = ACTIVE_ON_DATE_SQL, nativeQuery = true)
     List<PriceEntity> findByProductIdAndDate(@Param("productId") Long productId,
                                               @Param("date") LocalDate date);
 
-    @Query("SELECT p FROM PriceEntity p WHERE p.productId = :productId " +
-           "AND p.currency = :currency " +
-           "AND p.initDate <= :date " +
-           "AND (p.endDate IS NULL OR p.endDate >= :date)")
+    @Query(value = ACTIVE_ON_DATE_BY_CURRENCY_SQL, nativeQuery = true)
     Optional<PriceEntity> findByProductIdAndCurrencyAndDate(@Param("productId") Long productId,
                                                               @Param("currency") String currency,
                                                               @Param("date") LocalDate date);
+
+    // Keyset pagination ((init_date, id) descending), served by the ix_product_prices_*history_keyset indexes
+
+    @Query(value = "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices " +
+                   "WHERE product_id = :productId " +
+                   "ORDER BY init_date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<PriceEntity> findHistoryPage(@Param("productId") Long productId,
+                                      @Param("limit") int limit);
+
+    @Query(value = "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices " +
+                   "WHERE product_id = :productId " +
+                   "AND (init_date, id) < (:initDate, :id) " +
+                   "ORDER BY init_date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<PriceEntity> findHistoryPageAfter(@Param("productId") Long productId,
+                                           @Param("initDate") LocalDate initDate,
+                                           @Param("id") Long id,
+                                           @Param("limit") int limit);
+
+    @Query(value = "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices " +
+                   "WHERE product_id = :productId AND currency = :currency " +
+                   "ORDER BY init_date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<PriceEntity> findHistoryPageByCurrency(@Param("productId") Long productId,
+                                                @Param("currency") String currency,
+                                                @Param("limit") int limit);
+
+    @Query(value = "SELECT id, product_id, value, currency, init_date, end_date FROM product_prices " +
+                   "WHERE product_id = :productId AND currency = :currency " +
+                   "AND (init_date, id) < (:initDate, :id) " +
+                   "ORDER BY init_date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<PriceEntity> findHistoryPageByCurrencyAfter(@Param("productId") Long productId,
+                                                     @Param("currency") String currency,
+                                                     @Param("initDate") LocalDate initDate,
+                                                     @Param("id") Long id,
+                                                     @Param("limit") int limit);
 }
@@ -2,9 +2,60 @@ package com.mango.products.infrastructure.persistence.repository;
 
 import com.mango.products.infrastructure.persistence.entity.ProductEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface JpaProductRepository extends JpaRepository<ProductEntity, Long> {
-}
 
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.version FROM ProductEntity p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE ProductEntity p SET p.version = p.version + 1 WHERE p.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE ProductEntity p SET p.version = p.version + 1 WHERE p.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    // Product + prices joins: each row is [ProductEntity, PriceEntity], the price being null
+    // when the product has no matching prices
+
+    @Query("SELECT p, pr FROM ProductEntity p " +
+           "LEFT JOIN PriceEntity pr ON pr.productId = p.id " +
+           "WHERE p.id = :productId " +
+           "ORDER BY pr.initDate DESC")
+    List<Object[]> findWithPrices(@Param("productId") Long productId);
+
+    @Query("SELECT p, pr FROM ProductEntity p " +
+           "LEFT JOIN PriceEntity pr ON pr.productId = p.id AND pr.currency = :currency " +
+           "WHERE p.id = :productId " +
+           "ORDER BY pr.initDate DESC")
+    List<Object[]> findWithPricesByCurrency(@Param("productId") Long productId,
+                                             @Param("currency") String currency);
+
+    // Native so that the date test can use the GiST-indexed period column; each row holds the
+    // product columns followed by the price columns, the latter null when no price is active
+
+    String WITH_PRICES_ON_DATE_SQL =
+        "SELECT p.id, p.name, p.description, p.version, " +
+        "pr.id AS price_id, pr.value, pr.currency, pr.init_date, pr.end_date FROM products p " +
+        "LEFT JOIN product_prices pr ON pr.product_id = p.id AND pr.period @> CAST(:date AS date) " +
+        "WHERE p.id = :productId " +
+        "ORDER BY pr.currency";
+
+    @Query(value = WITH_PRICES_ON_DATE_SQL, nativeQuery = true)
+    List<Object[]> findWithPricesOnDate(@Param("productId") Long productId,
+                                         @Param("date") LocalDate date);
+}
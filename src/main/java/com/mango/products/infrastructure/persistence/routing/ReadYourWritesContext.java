@@ -0,0 +1,29 @@
+package com.mango.products.infrastructure.persistence.routing;
+
+/**
+ * Marks the current thread as belonging to a client that wrote recently, so its read-only
+ * transactions are served by the primary instead of a possibly lagging replica.
+ * <p>
+ * A plain {@link ThreadLocal}: it is not inherited by work handed to another thread ({@code @Async},
+ * executors, newly started virtual threads). Code that moves a read
+ * off the request thread must carry the pin over itself, as the reactive controller does.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,133 @@
+package com.mango.products.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DataSource} that sends read-only transactions to replicas (round robin) and everything
+ * else to the primary.
+ * <p>
+ * Connections are fetched lazily, on the first statement, because the read-only flag of a Spring
+ * transaction is only known once the transaction manager has begun it. A replica that fails to
+ * hand out a connection is skipped for {@code failureCooldown} and the primary serves the read.
+ * Threads pinned by {@link ReadYourWritesContext} always use the primary.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration failureCooldown, Clock clock) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+
+        Router router = new Router(primary, this.replicas, failureCooldown, clock);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        // Known upfront, so no connection has to be opened just to read them
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() {
+        List<DataSource> all = new ArrayList<>(replicas);
+        all.add(primary);
+        for (DataSource dataSource : all) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close data source {}", dataSource, e);
+                }
+            }
+        }
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+
+        private final DataSource primary;
+        private final List<String> replicaKeys = new ArrayList<>();
+        private final Map<String, Instant> unavailableUntil = new ConcurrentHashMap<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final Duration failureCooldown;
+        private final Clock clock;
+
+        private Router(DataSource primary, List<DataSource> replicas, Duration failureCooldown, Clock clock) {
+            this.primary = primary;
+            this.failureCooldown = failureCooldown;
+            this.clock = clock;
+
+            Map<Object, Object> targets = new LinkedHashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                String key = "replica-" + (i + 1);
+                replicaKeys.add(key);
+                targets.put(key, replicas.get(i));
+            }
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            setLenientFallback(false);
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    || ReadYourWritesContext.isPinnedToPrimary()) {
+                return PRIMARY;
+            }
+            Instant now = clock.instant();
+            int start = Math.floorMod(next.getAndIncrement(), Math.max(replicaKeys.size(), 1));
+            for (int i = 0; i < replicaKeys.size(); i++) {
+                String key = replicaKeys.get((start + i) % replicaKeys.size());
+                Instant until = unavailableUntil.get(key);
+                if (until == null || !now.isBefore(until)) {
+                    return key;
+                }
+            }
+            return PRIMARY;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Object key = determineCurrentLookupKey();
+            if (PRIMARY.equals(key)) {
+                return primary.getConnection();
+            }
+            try {
+                return getResolvedDataSources().get(key).getConnection();
+            } catch (SQLException e) {
+                unavailableUntil.put((String) key, clock.instant().plus(failureCooldown));
+                log.warn("Replica {} unavailable, reading from the primary for {}", key, failureCooldown, e);
+                return primary.getConnection();
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.mango.products.infrastructure.rest.config;
+
+import com.mango.products.infrastructure.observability.SqlStatementTracker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds the request's SQL work as a {@code Server-Timing} header, e.g.
+ * {@code db;dur=12;desc="3 statements"}, just before the body is written (so it is still
+ * possible to add headers). Off by default, since it discloses query counts; the {@code dev}
+ * profile and the E2E tests turn it on.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "products.observability.server-timing.enabled", havingValue = "true")
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementTracker.current().ifPresent(stats -> response.getHeaders().add(SERVER_TIMING,
+                String.format(Locale.ROOT, "db;dur=%d;desc=\"%d statements\"", stats.elapsedMillis(), stats.statements())));
+        return body;
+    }
+}
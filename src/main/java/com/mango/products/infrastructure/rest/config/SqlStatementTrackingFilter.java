@@ -0,0 +1,68 @@
+package com.mango.products.infrastructure.rest.config;
+
+import com.mango.products.infrastructure.observability.SqlStatementTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per request, how many SQL statements were executed and how long they took:
+ * {@code products.request.sql.statements} and {@code products.request.sql.time}, tagged by
+ * method and URI pattern.
+ * <p>
+ * Async requests (NDJSON export, reactive controllers) finish on other threads and are not recorded.
+ */
+@Component
+public class SqlStatementTrackingFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementTrackingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.stop();
+            if (!request.isAsyncStarted()) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementTracker.Stats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        DistributionSummary.builder("products.request.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("products.request.sql.time")
+                .description("Time spent executing SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.elapsedMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import com.mango.products.application.usecase.GetChangeFeedUseCase;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.infrastructure.rest.api.ChangesApi;
+import com.mango.products.infrastructure.rest.dto.ChangeFeedResponse;
+import com.mango.products.infrastructure.rest.mapper.ChangeEventDtoMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Serves the change feed under both profiles: it only reads published outbox events over JDBC,
+ * whichever stack wrote them.
+ */
+@RestController
+public class ChangeFeedController implements ChangesApi {
+
+    private final GetChangeFeedUseCase getChangeFeedUseCase;
+
+    public ChangeFeedController(GetChangeFeedUseCase getChangeFeedUseCase) {
+        this.getChangeFeedUseCase = getChangeFeedUseCase;
+    }
+
+    @Override
+    public ResponseEntity<ChangeFeedResponse> getChanges(@RequestParam(value = "after", required = false, defaultValue = "0") Long after,
+                                                         @RequestParam(value = "limit", required = false, defaultValue = "100") Integer limit) {
+        List<ChangeEvent> events = getChangeFeedUseCase.execute(after, limit);
+        return ResponseEntity.ok(ChangeEventDtoMapper.toChangeFeedResponse(after, events));
+    }
+}
@@ -0,0 +1,26 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import com.mango.products.domain.model.PriceQueryPeriod;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * {@code Cache-Control} of the price reads, shared by the blocking and reactive controllers.
+ */
+final class PriceCacheControl {
+
+    private PriceCacheControl() {
+    }
+
+    static CacheControl forDate(LocalDate date, PriceHistoryFreezePolicy freezePolicy, Duration historicalMaxAge) {
+        if (date != null && freezePolicy.classify(date) == PriceQueryPeriod.HISTORICAL) {
+            // No write can change the prices active on a frozen date any more
+            return CacheControl.maxAge(historicalMaxAge).cachePublic().immutable();
+        }
+        // Current, future or full history: caches must revalidate (cheaply, with the ETag) before reuse
+        return CacheControl.noCache();
+    }
+}
@@ -1,41 +1,80 @@
 package com.mango.products.infrastructure.rest.controller;
 
 import com.mango.products.application.usecase.AddPriceToProductUseCase;
-import com.mango.products.application.usecase.GetProductByIdUseCase;
+import com.mango.products.application.usecase.GetProductPriceHistoryUseCase;
 import com.mango.products.application.usecase.GetProductPricesUseCase;
+import com.mango.products.application.usecase.GetProductVersionUseCase;
+import com.mango.products.application.usecase.ImportPricesUseCase;
+import com.mango.products.application.usecase.PriceImportResult;
+import com.mango.products.application.usecase.PriceImportRow;
 import com.mango.products.domain.exception.PriceNotFoundException;
+import com.mango.products.domain.model.CurrentPriceLookup;
 import com.mango.products.domain.model.Price;
 import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
+import com.mango.products.domain.model.ProductPriceHistoryPage;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import com.mango.products.infrastructure.concurrency.PriceLookupCoalescer;
 import com.mango.products.infrastructure.rest.api.PricesApi;
 import com.mango.products.infrastructure.rest.dto.AddPriceRequest;
+import com.mango.products.infrastructure.rest.dto.CurrentPricesResponse;
 import com.mango.products.infrastructure.rest.dto.GetProductPrices200Response;
+import com.mango.products.infrastructure.rest.dto.PriceImportRequest;
+import com.mango.products.infrastructure.rest.dto.PriceImportResponse;
 import com.mango.products.infrastructure.rest.dto.PriceResponse;
+import com.mango.products.infrastructure.rest.mapper.PriceCursorMapper;
 import com.mango.products.infrastructure.rest.mapper.PriceDtoMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import jakarta.validation.Valid;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @RestController
+@Profile("!reactive")
 public class PriceController implements PricesApi {
 
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+
     private final AddPriceToProductUseCase addPriceToProductUseCase;
     private final GetProductPricesUseCase getProductPricesUseCase;
-    private final GetProductByIdUseCase getProductByIdUseCase;
+    private final GetProductPriceHistoryUseCase getProductPriceHistoryUseCase;
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceLookupCoalescer priceLookupCoalescer;
+    private final GetProductVersionUseCase getProductVersionUseCase;
+    private final PriceHistoryFreezePolicy freezePolicy;
+    private final Duration historicalMaxAge;
 
     public PriceController(AddPriceToProductUseCase addPriceToProductUseCase,
                           GetProductPricesUseCase getProductPricesUseCase,
-                          GetProductByIdUseCase getProductByIdUseCase) {
+                          GetProductPriceHistoryUseCase getProductPriceHistoryUseCase,
+                          ImportPricesUseCase importPricesUseCase,
+                          PriceLookupCoalescer priceLookupCoalescer,
+                          GetProductVersionUseCase getProductVersionUseCase,
+                          PriceHistoryFreezePolicy freezePolicy,
+                          @Value("${products.prices.history-freeze.cache-max-age:365d}") Duration historicalMaxAge) {
         this.addPriceToProductUseCase = addPriceToProductUseCase;
         this.getProductPricesUseCase = getProductPricesUseCase;
-        this.getProductByIdUseCase = getProductByIdUseCase;
+        this.getProductPriceHistoryUseCase = getProductPriceHistoryUseCase;
+        this.importPricesUseCase = importPricesUseCase;
+        this.priceLookupCoalescer = priceLookupCoalescer;
+        this.getProductVersionUseCase = getProductVersionUseCase;
+        this.freezePolicy = freezePolicy;
+        this.historicalMaxAge = historicalMaxAge;
     }
 
     @Override
@@ -51,56 +90,103 @@ public class PriceController implements PricesApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Override
+    public ResponseEntity<CurrentPricesResponse> getCurrentPrices(@RequestParam("productIds") List<Long> productIds,
+                                                                  @RequestParam(value = "date", required = false) LocalDate date,
+                                                                  @RequestParam(value = "currency", required = false) String currency) {
+        LocalDate effectiveDate = date != null ? date : LocalDate.now();
+        List<CurrentPriceLookup> lookups = getProductPricesUseCase.getCurrentPricesForProducts(productIds, currency, effectiveDate);
+        return ResponseEntity.ok(PriceDtoMapper.toCurrentPricesResponse(effectiveDate, currency, lookups));
+    }
+
+    @Override
+    public ResponseEntity<PriceImportResponse> importPrices(@Valid @RequestBody PriceImportRequest request) {
+        List<PriceImportRow> rows = request.getPrices().stream()
+            .map(PriceDtoMapper::toImportRow)
+            .toList();
+        PriceImportResult result = importPricesUseCase.execute(rows);
+        return ResponseEntity.ok(PriceDtoMapper.toImportResponse(result));
+    }
+
     @Override
     public ResponseEntity<GetProductPrices200Response> getProductPrices(@PathVariable("id") Long id,
                                                                         @PathVariable("date") LocalDate date,
-                                                                        @PathVariable("currency")String currency) {
+                                                                        @PathVariable("currency")String currency,
+                                                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                                        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        // Every representation of this resource is a function of the product's data, so its
+        // version validates them all; it is read before the data so a stale ETag is never sent
+        // with a fresher body than it describes
+        CacheControl cacheControl = PriceCacheControl.forDate(date, freezePolicy, historicalMaxAge);
+        Long knownVersion = null;
+        if (ifNoneMatch != null) {
+            long version = getProductVersionUseCase.execute(id);
+            if (ProductETags.matches(ifNoneMatch, version)) {
+                return ProductETags.notModified(version, cacheControl);
+            }
+            knownVersion = version;
+        }
+
         if (date != null) {
             // Get current price(s) for specific date
             if (currency != null) {
-                // Specific currency requested
-                Optional<Price> priceOpt = getProductPricesUseCase.getCurrentPriceByCurrency(id, currency, date);
+                // Specific currency requested; the price alone does not carry the product version
+                long version = knownVersion != null ? knownVersion : getProductVersionUseCase.execute(id);
+                Optional<Price> priceOpt = priceLookupCoalescer.getCurrentPriceByCurrency(id, currency, date);
                 Price price = priceOpt.orElseThrow(() -> new PriceNotFoundException(id, date));
                 GetProductPrices200Response response = PriceDtoMapper.toCurrentPriceResponse(price);
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok().cacheControl(cacheControl).eTag(ProductETags.of(version)).body(response);
             } else {
-                // No currency specified - return all prices for that date
-                List<Price> prices = getProductPricesUseCase.getCurrentPrices(id, date);
+                // No currency specified - return all prices for that date (product loaded in the same query)
+                ProductPriceHistory history = priceLookupCoalescer.getPricesOnDate(id, date);
+                List<Price> prices = history.getPrices();
                 if (prices.isEmpty()) {
                     throw new PriceNotFoundException(id, date);
                 }
+                String eTag = ProductETags.of(history.getProduct().getVersion());
                 // If only one price, return as current price
                 if (prices.size() == 1) {
                     GetProductPrices200Response response = PriceDtoMapper.toCurrentPriceResponse(prices.get(0));
-                    return ResponseEntity.ok(response);
+                    return ResponseEntity.ok().cacheControl(cacheControl).eTag(eTag).body(response);
                 }
                 // Multiple prices (different currencies) - return as list
-                Product product = getProductByIdUseCase.execute(id);
-                GetProductPrices200Response response = PriceDtoMapper.toHistoryResponse(
-                    product.getId(),
-                    product.getName(),
-                    product.getDescription(),
-                    prices
-                );
-                return ResponseEntity.ok(response);
-            }
-        } else {
-            // Get price history
-            Product product = getProductByIdUseCase.execute(id);
-            List<Price> prices;
-            if (currency != null) {
-                prices = getProductPricesUseCase.getAllPricesByCurrency(id, currency);
-            } else {
-                prices = getProductPricesUseCase.getAllPrices(id);
+                return ResponseEntity.ok().cacheControl(cacheControl).eTag(eTag).body(PriceDtoMapper.toHistoryResponse(history));
             }
-
-            GetProductPrices200Response response = PriceDtoMapper.toHistoryResponse(
+        } else if (limit != null || cursor != null) {
+            // Get one keyset page of the price history
+            ProductPriceHistoryPage page = getProductPriceHistoryUseCase.getHistoryPage(
+                id,
+                currency,
+                PriceCursorMapper.fromToken(cursor),
+                limit != null ? limit : DEFAULT_PAGE_LIMIT
+            );
+            Product product = page.getHistory().getProduct();
+            String nextCursor = page.getNextCursor().map(PriceCursorMapper::toToken).orElse(null);
+            GetProductPrices200Response response = PriceDtoMapper.toHistoryPageResponse(
                 product.getId(),
                 product.getName(),
                 product.getDescription(),
-                prices
+                page.getHistory().getPrices(),
+                nextCursor
             );
-            return ResponseEntity.ok(response);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl).eTag(ProductETags.of(product.getVersion()));
+            if (nextCursor != null) {
+                String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .toUriString();
+                builder.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+            }
+            return builder.body(response);
+        } else {
+            // Get price history (product and prices loaded in a single query)
+            ProductPriceHistory history = currency != null
+                ? getProductPriceHistoryUseCase.getHistoryByCurrency(id, currency)
+                : getProductPriceHistoryUseCase.getHistory(id);
+            return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(ProductETags.of(history.getProduct().getVersion()))
+                .body(PriceDtoMapper.toHistoryResponse(history));
         }
     }
 }
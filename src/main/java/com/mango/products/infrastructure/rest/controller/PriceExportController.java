@@ -0,0 +1,64 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mango.products.application.usecase.ExportProductPricesUseCase;
+import com.mango.products.infrastructure.rest.mapper.PriceDtoMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the complete price history as NDJSON (one {@code PriceResponse} per line).
+ * <p>
+ * Rows are read through a database cursor and written as they arrive; a slow client blocks
+ * the writing thread, which in turn stops fetching rows, so heap use stays flat.
+ * An unknown product fails inside the body, before anything is written, and is still answered
+ * with a regular JSON 404 (see {@code GlobalExceptionHandler}).
+ * Not part of the OpenAPI contract because generated interfaces cannot return a streaming body.
+ */
+@RestController
+public class PriceExportController {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final ExportProductPricesUseCase exportProductPricesUseCase;
+    private final ObjectMapper objectMapper;
+
+    public PriceExportController(ExportProductPricesUseCase exportProductPricesUseCase,
+                                 ObjectMapper objectMapper) {
+        this.exportProductPricesUseCase = exportProductPricesUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    // No "produces" condition: error responses must still be rendered as JSON
+    @GetMapping("/products/{id}/prices/export")
+    public ResponseEntity<StreamingResponseBody> exportProductPrices(@PathVariable("id") Long id,
+                                                                     @RequestParam(value = "currency", required = false) String currency) {
+        StreamingResponseBody body = outputStream -> {
+            int[] rows = {0};
+            exportProductPricesUseCase.exportPrices(id, currency, price -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(PriceDtoMapper.toPriceResponse(price)));
+                    outputStream.write('\n');
+                    if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                        outputStream.flush();
+                    }
+                } catch (IOException e) {
+                    // Client went away: abort the cursor read
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
@@ -0,0 +1,73 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import com.mango.products.application.usecase.GetProductByIdUseCase;
+import com.mango.products.domain.model.Price;
+import com.mango.products.infrastructure.rest.mapper.PriceDtoMapper;
+import com.mango.products.infrastructure.streaming.PriceStreamHub;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Pushes every price added to a product as a Server-Sent Event named {@code price} carrying a
+ * {@code PriceResponse}, with a comment line as heartbeat while idle.
+ * <p>
+ * The request runs in async mode, so an open stream holds a connection but no request thread.
+ * Not part of the OpenAPI contract because generated interfaces cannot return an event stream.
+ */
+@RestController
+public class PriceStreamController {
+
+    private final GetProductByIdUseCase getProductByIdUseCase;
+    private final PriceStreamHub priceStreamHub;
+    private final Duration timeout;
+
+    public PriceStreamController(GetProductByIdUseCase getProductByIdUseCase,
+                                 PriceStreamHub priceStreamHub,
+                                 @Value("${products.prices.stream.timeout:30m}") Duration timeout) {
+        this.getProductByIdUseCase = getProductByIdUseCase;
+        this.priceStreamHub = priceStreamHub;
+        this.timeout = timeout;
+    }
+
+    // No "produces" condition: error responses must still be rendered as JSON
+    @GetMapping("/products/{id}/prices/stream")
+    public SseEmitter streamProductPrices(@PathVariable("id") Long id) {
+        // Fail with a regular 404 before the response is committed
+        getProductByIdUseCase.execute(id);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        PriceStreamHub.Subscription subscription = priceStreamHub.subscribe(id, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements PriceStreamHub.Sink {
+
+        @Override
+        public void send(Price price) throws IOException {
+            emitter.send(SseEmitter.event()
+                .name("price")
+                .id(String.valueOf(price.getId()))
+                .data(PriceDtoMapper.toPriceResponse(price), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment(""));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
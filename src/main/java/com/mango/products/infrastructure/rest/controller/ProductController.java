@@ -2,41 +2,56 @@ package com.mango.products.infrastructure.rest.controller;
 
 import com.mango.products.application.usecase.CreateProductUseCase;
 import com.mango.products.application.usecase.GetProductByIdUseCase;
+import com.mango.products.application.usecase.GetProductVersionUseCase;
 import com.mango.products.domain.model.Product;
 import com.mango.products.infrastructure.rest.api.ProductsApi;
 import com.mango.products.infrastructure.rest.dto.CreateProductRequest;
 import com.mango.products.infrastructure.rest.dto.ProductResponse;
 import com.mango.products.infrastructure.rest.mapper.ProductDtoMapper;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 public class ProductController implements ProductsApi {
 
     private final CreateProductUseCase createProductUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
+    private final GetProductVersionUseCase getProductVersionUseCase;
 
     public ProductController(CreateProductUseCase createProductUseCase,
-                           GetProductByIdUseCase getProductByIdUseCase) {
+                           GetProductByIdUseCase getProductByIdUseCase,
+                           GetProductVersionUseCase getProductVersionUseCase) {
         this.createProductUseCase = createProductUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
+        this.getProductVersionUseCase = getProductVersionUseCase;
     }
 
     @Override
     public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody CreateProductRequest request) {
         Product product = createProductUseCase.execute(request.getName(), request.getDescription());
         ProductResponse response = ProductDtoMapper.toResponse(product);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ProductETags.of(product.getVersion())).body(response);
     }
 
     @Override
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable("id") Long id) {
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable("id") Long id,
+                                                          @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Version lookup only: nothing is loaded or serialized when the client is up to date
+            long version = getProductVersionUseCase.execute(id);
+            if (ProductETags.matches(ifNoneMatch, version)) {
+                return ProductETags.notModified(version);
+            }
+        }
         Product product = getProductByIdUseCase.execute(id);
         ProductResponse response = ProductDtoMapper.toResponse(product);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ProductETags.of(product.getVersion())).body(response);
     }
 }
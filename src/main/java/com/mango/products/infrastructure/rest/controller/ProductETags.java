@@ -0,0 +1,53 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Strong ETags derived from the product version, shared by the product and price endpoints.
+ */
+final class ProductETags {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ProductETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Weak comparison, as RFC 9110 requires for {@code If-None-Match}: a {@code W/} prefix sent
+     * back by an intermediary still matches.
+     */
+    static boolean matches(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = of(version);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(WILDCARD) || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(long version) {
+        return notModified(version, CacheControl.empty());
+    }
+
+    /**
+     * A 304 repeats the {@code Cache-Control} the 200 would have carried.
+     */
+    static <T> ResponseEntity<T> notModified(long version, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(of(version)).cacheControl(cacheControl).build();
+    }
+}
@@ -0,0 +1,228 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import com.mango.products.application.usecase.GetProductPriceHistoryUseCase;
+import com.mango.products.application.usecase.GetProductPricesUseCase;
+import com.mango.products.application.usecase.ImportPricesUseCase;
+import com.mango.products.application.usecase.PriceImportRow;
+import com.mango.products.application.usecase.ReactiveAddPriceToProductUseCase;
+import com.mango.products.application.usecase.ReactiveGetProductByIdUseCase;
+import com.mango.products.application.usecase.ReactiveGetProductPricesUseCase;
+import com.mango.products.domain.exception.PriceNotFoundException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
+import com.mango.products.domain.model.ProductPriceHistoryPage;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import com.mango.products.infrastructure.persistence.routing.ReadYourWritesContext;
+import com.mango.products.infrastructure.rest.dto.AddPriceRequest;
+import com.mango.products.infrastructure.rest.dto.CurrentPricesResponse;
+import com.mango.products.infrastructure.rest.dto.GetProductPrices200Response;
+import com.mango.products.infrastructure.rest.dto.PriceImportRequest;
+import com.mango.products.infrastructure.rest.dto.PriceImportResponse;
+import com.mango.products.infrastructure.rest.dto.PriceResponse;
+import com.mango.products.infrastructure.rest.mapper.PriceCursorMapper;
+import com.mango.products.infrastructure.rest.mapper.PriceDtoMapper;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * {@link PriceController} counterpart for the "reactive" profile, same routes and contract,
+ * including version ETags, {@code If-None-Match} and the {@code Cache-Control} of frozen dates.
+ * Unlike the blocking controller, there is no separate version read: the ETag comes from the
+ * product loaded with the prices, so a 304 saves the transfer but not the query.
+ * <p>
+ * Adding a price and the single-product reads go through R2DBC. Bulk import, the batch lookup
+ * and paginated history still use the JPA/JDBC use cases, run on the bounded elastic scheduler
+ * so they never block the threads serving the non-blocking requests.
+ */
+@RestController
+@Profile("reactive")
+public class ReactivePriceController {
+
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+
+    private final ReactiveAddPriceToProductUseCase addPriceToProductUseCase;
+    private final ReactiveGetProductPricesUseCase getProductPricesUseCase;
+    private final GetProductPricesUseCase blockingGetProductPricesUseCase;
+    private final GetProductPriceHistoryUseCase blockingGetProductPriceHistoryUseCase;
+    private final ImportPricesUseCase importPricesUseCase;
+    private final ReactiveGetProductByIdUseCase getProductByIdUseCase;
+    private final PriceHistoryFreezePolicy freezePolicy;
+    private final Duration historicalMaxAge;
+
+    public ReactivePriceController(ReactiveAddPriceToProductUseCase addPriceToProductUseCase,
+                                   ReactiveGetProductPricesUseCase getProductPricesUseCase,
+                                   GetProductPricesUseCase blockingGetProductPricesUseCase,
+                                   GetProductPriceHistoryUseCase blockingGetProductPriceHistoryUseCase,
+                                   ImportPricesUseCase importPricesUseCase,
+                                   ReactiveGetProductByIdUseCase getProductByIdUseCase,
+                                   PriceHistoryFreezePolicy freezePolicy,
+                                   @Value("${products.prices.history-freeze.cache-max-age:365d}") Duration historicalMaxAge) {
+        this.addPriceToProductUseCase = addPriceToProductUseCase;
+        this.getProductPricesUseCase = getProductPricesUseCase;
+        this.blockingGetProductPricesUseCase = blockingGetProductPricesUseCase;
+        this.blockingGetProductPriceHistoryUseCase = blockingGetProductPriceHistoryUseCase;
+        this.importPricesUseCase = importPricesUseCase;
+        this.getProductByIdUseCase = getProductByIdUseCase;
+        this.freezePolicy = freezePolicy;
+        this.historicalMaxAge = historicalMaxAge;
+    }
+
+    @PostMapping(value = "/products/{id}/prices", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceResponse>> addPriceToProduct(@PathVariable("id") Long id,
+                                                                 @Valid @RequestBody AddPriceRequest request) {
+        return addPriceToProductUseCase.execute(
+                id,
+                BigDecimal.valueOf(request.getValue()),
+                request.getCurrency(),
+                request.getInitDate(),
+                request.getEndDate())
+            .map(price -> ResponseEntity.status(HttpStatus.CREATED).body(PriceDtoMapper.toPriceResponse(price)));
+    }
+
+    @GetMapping(value = "/products/{id}/prices", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<GetProductPrices200Response>> getProductPrices(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "currency", required = false) @Pattern(regexp = "^[A-Z]{3}$") String currency,
+            @RequestParam(value = "limit", required = false) @Min(1) @Max(500) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        CacheControl cacheControl = PriceCacheControl.forDate(date, freezePolicy, historicalMaxAge);
+        if (date != null) {
+            if (currency != null) {
+                // The price alone does not carry the product version; read the product first
+                return getProductByIdUseCase.execute(id)
+                    .flatMap(product -> ProductETags.matches(ifNoneMatch, product.getVersion())
+                        ? Mono.just(ProductETags.<GetProductPrices200Response>notModified(product.getVersion(), cacheControl))
+                        : getProductPricesUseCase.getCurrentPriceByCurrency(id, currency, date)
+                            .switchIfEmpty(Mono.error(() -> new PriceNotFoundException(id, date)))
+                            .map(price -> conditional(ifNoneMatch, product.getVersion(), cacheControl,
+                                () -> PriceDtoMapper.toCurrentPriceResponse(price))));
+            }
+            return getProductPricesUseCase.getPricesOnDate(id, date)
+                .map(history -> {
+                    List<Price> prices = history.getPrices();
+                    if (prices.isEmpty()) {
+                        throw new PriceNotFoundException(id, date);
+                    }
+                    return conditional(ifNoneMatch, history.getProduct().getVersion(), cacheControl,
+                        () -> prices.size() == 1
+                            ? PriceDtoMapper.toCurrentPriceResponse(prices.get(0))
+                            : PriceDtoMapper.toHistoryResponse(history));
+                });
+        }
+        if (limit != null || cursor != null) {
+            // Captured on the request thread, the page itself is read off it
+            UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+            return offload(() -> blockingGetProductPriceHistoryUseCase.getHistoryPage(
+                    id,
+                    currency,
+                    PriceCursorMapper.fromToken(cursor),
+                    limit != null ? limit : DEFAULT_PAGE_LIMIT))
+                .map(page -> toPageResponse(page, currentRequest, ifNoneMatch, cacheControl));
+        }
+        Mono<ProductPriceHistory> history = currency != null
+            ? getProductPricesUseCase.getHistoryByCurrency(id, currency)
+            : getProductPricesUseCase.getHistory(id);
+        return history.map(found -> conditional(ifNoneMatch, found.getProduct().getVersion(), cacheControl,
+            () -> PriceDtoMapper.toHistoryResponse(found)));
+    }
+
+    @GetMapping(value = "/prices/current", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CurrentPricesResponse>> getCurrentPrices(
+            @RequestParam("productIds") @Size(min = 1, max = 200) List<Long> productIds,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "currency", required = false) @Pattern(regexp = "^[A-Z]{3}$") String currency) {
+        LocalDate effectiveDate = date != null ? date : LocalDate.now();
+        return offload(() -> blockingGetProductPricesUseCase.getCurrentPricesForProducts(productIds, currency, effectiveDate))
+            .map(lookups -> ResponseEntity.ok(PriceDtoMapper.toCurrentPricesResponse(effectiveDate, currency, lookups)));
+    }
+
+    @PostMapping(value = "/prices/import", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PriceImportResponse>> importPrices(@Valid @RequestBody PriceImportRequest request) {
+        List<PriceImportRow> rows = request.getPrices().stream()
+            .map(PriceDtoMapper::toImportRow)
+            .toList();
+        return offload(() -> importPricesUseCase.execute(rows))
+            .map(result -> ResponseEntity.ok(PriceDtoMapper.toImportResponse(result)));
+    }
+
+    private static <T> Mono<T> offload(Callable<T> blockingCall) {
+        // Carry the read-your-writes pin over to the worker thread
+        boolean pinnedToPrimary = ReadYourWritesContext.isPinnedToPrimary();
+        return Mono.fromCallable(() -> {
+                if (pinnedToPrimary) {
+                    ReadYourWritesContext.pinToPrimary();
+                }
+                try {
+                    return blockingCall.call();
+                } finally {
+                    ReadYourWritesContext.clear();
+                }
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static ResponseEntity<GetProductPrices200Response> conditional(String ifNoneMatch, long version,
+                                                                           CacheControl cacheControl,
+                                                                           Supplier<GetProductPrices200Response> body) {
+        if (ProductETags.matches(ifNoneMatch, version)) {
+            return ProductETags.notModified(version, cacheControl);
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).eTag(ProductETags.of(version)).body(body.get());
+    }
+
+    private static ResponseEntity<GetProductPrices200Response> toPageResponse(ProductPriceHistoryPage page,
+                                                                              UriComponentsBuilder currentRequest,
+                                                                              String ifNoneMatch,
+                                                                              CacheControl cacheControl) {
+        Product product = page.getHistory().getProduct();
+        if (ProductETags.matches(ifNoneMatch, product.getVersion())) {
+            return ProductETags.notModified(product.getVersion(), cacheControl);
+        }
+        String nextCursor = page.getNextCursor().map(PriceCursorMapper::toToken).orElse(null);
+        GetProductPrices200Response response = PriceDtoMapper.toHistoryPageResponse(
+            product.getId(),
+            product.getName(),
+            product.getDescription(),
+            page.getHistory().getPrices(),
+            nextCursor
+        );
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl).eTag(ProductETags.of(product.getVersion()));
+        if (nextCursor != null) {
+            String nextLink = currentRequest.replaceQueryParam("cursor", nextCursor).toUriString();
+            builder.header(HttpHeaders.LINK, "<" + nextLink + ">; rel=\"next\"");
+        }
+        return builder.body(response);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mango.products.infrastructure.rest.controller;
+
+import com.mango.products.application.usecase.ReactiveCreateProductUseCase;
+import com.mango.products.application.usecase.ReactiveGetProductByIdUseCase;
+import com.mango.products.infrastructure.rest.dto.CreateProductRequest;
+import com.mango.products.infrastructure.rest.dto.ProductResponse;
+import com.mango.products.infrastructure.rest.mapper.ProductDtoMapper;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ProductController} counterpart for the "reactive" profile, same routes and contract,
+ * including the version ETag and {@code If-None-Match} handling. A conditional GET loads the
+ * product to compare versions, so a 304 saves the transfer but not the query.
+ */
+@RestController
+@Profile("reactive")
+public class ReactiveProductController {
+
+    private final ReactiveCreateProductUseCase createProductUseCase;
+    private final ReactiveGetProductByIdUseCase getProductByIdUseCase;
+
+    public ReactiveProductController(ReactiveCreateProductUseCase createProductUseCase,
+                                     ReactiveGetProductByIdUseCase getProductByIdUseCase) {
+        this.createProductUseCase = createProductUseCase;
+        this.getProductByIdUseCase = getProductByIdUseCase;
+    }
+
+    @PostMapping(value = "/products", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ProductResponse>> createProduct(@Valid @RequestBody CreateProductRequest request) {
+        return createProductUseCase.execute(request.getName(), request.getDescription())
+            .map(product -> ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ProductETags.of(product.getVersion()))
+                .body(ProductDtoMapper.toResponse(product)));
+    }
+
+    @GetMapping(value = "/products/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ProductResponse>> getProductById(@PathVariable("id") Long id,
+                                                                @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        return getProductByIdUseCase.execute(id)
+            .map(product -> ProductETags.matches(ifNoneMatch, product.getVersion())
+                ? ProductETags.<ProductResponse>notModified(product.getVersion())
+                : ResponseEntity.ok().eTag(ProductETags.of(product.getVersion())).body(ProductDtoMapper.toResponse(product)));
+    }
+}
@@ -2,7 +2,10 @@ package com.mango.products.infrastructure.rest.exception;
 
 import com.mango.products.domain.exception.*;
 import com.mango.products.infrastructure.rest.dto.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -12,54 +15,105 @@ import java.time.OffsetDateTime;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.stream.Collectors;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    static final String ERRORS_METRIC = "products.errors";
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, WebRequest request) {
         String msg = ex.getBindingResult().getFieldErrors()
                 .stream()
                 .map(fe -> fe.getField() + ": " + fe.getDefaultMessage())
                 .collect(Collectors.joining("; "));
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, msg, request);
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, msg, request);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex, WebRequest request) {
+        String msg = ex.getConstraintViolations()
+                .stream()
+                .map(cv -> cv.getPropertyPath() + ": " + cv.getMessage())
+                .collect(Collectors.joining("; "));
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, msg, request);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleHandlerMethodValidation(HandlerMethodValidationException ex, WebRequest request) {
+        String msg = ex.getAllErrors()
+                .stream()
+                .map(error -> error.getDefaultMessage())
+                .collect(Collectors.joining("; "));
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, msg, request);
     }
 
     @ExceptionHandler(ProductNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleProductNotFoundException(
             ProductNotFoundException ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
     @ExceptionHandler(PriceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePriceNotFoundException(
             PriceNotFoundException ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
     @ExceptionHandler(PriceOverlapException.class)
     public ResponseEntity<ErrorResponse> handlePriceOverlapException(
             PriceOverlapException ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(DuplicatePriceException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicatePriceException(
+            DuplicatePriceException ex, WebRequest request) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidPriceException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPriceException(
+            InvalidPriceException ex, WebRequest request) {
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(FrozenPriceHistoryException.class)
+    public ResponseEntity<ErrorResponse> handleFrozenPriceHistoryException(
+            FrozenPriceHistoryException ex, WebRequest request) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(PriceImportConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePriceImportConflictException(
+            PriceImportConflictException ex, WebRequest request) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
     @ExceptionHandler(ProductAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleProductAlreadyExistsException(
             ProductAlreadyExistsException ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), request);
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
     @ExceptionHandler(InvalidCurrencyException.class)
     public ResponseEntity<ErrorResponse> handleInvalidCurrencyException(
             InvalidCurrencyException ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -68,21 +122,26 @@ public class GlobalExceptionHandler {
         Object value = ex.getValue();
         String expected = ex.getRequiredType() != null ? ex.getRequiredType().getSimpleName() : "required type";
         String msg = String.format("Parameter '%s' with value '%s' is invalid. Expected %s.", param, value, expected);
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, msg, request);
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, msg, request);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
-        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
+        return buildErrorResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
     }
 
-    private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String message, WebRequest request) {
+    private ResponseEntity<ErrorResponse> buildErrorResponse(Exception ex, HttpStatus status, String message, WebRequest request) {
+        meterRegistry.counter(ERRORS_METRIC,
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value()))
+            .increment();
         ErrorResponse error = new ErrorResponse();
         error.setTimestamp(OffsetDateTime.now());
         error.setStatus(status.value());
         error.setError(status.getReasonPhrase());
         error.setMessage(message);
         error.setPath(request.getDescription(false).replace("uri=", ""));
-        return ResponseEntity.status(status).body(error);
+        // Explicit, so it overrides a Content-Type a streaming handler already set before failing
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(error);
     }
 }
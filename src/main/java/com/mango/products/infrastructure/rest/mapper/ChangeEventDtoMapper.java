@@ -0,0 +1,37 @@
+package com.mango.products.infrastructure.rest.mapper;
+
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.infrastructure.rest.dto.ChangeEventResponse;
+import com.mango.products.infrastructure.rest.dto.ChangeFeedResponse;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public class ChangeEventDtoMapper {
+
+
+    public static ChangeFeedResponse toChangeFeedResponse(long after, List<ChangeEvent> events) {
+        ChangeFeedResponse response = new ChangeFeedResponse();
+        response.setEvents(events.stream()
+            .map(ChangeEventDtoMapper::toChangeEventResponse)
+            .toList());
+        response.setNextOffset(events.isEmpty() ? after : events.get(events.size() - 1).offset());
+        return response;
+    }
+
+    public static ChangeEventResponse toChangeEventResponse(ChangeEvent event) {
+        ChangeEventResponse response = new ChangeEventResponse();
+        response.setOffset(event.offset());
+        response.setType(ChangeEventResponse.TypeEnum.fromValue(event.type().name()));
+        response.setProductId(event.productId());
+        response.setOccurredAt(OffsetDateTime.ofInstant(event.occurredAt(), ZoneOffset.UTC));
+        if (event.product() != null) {
+            response.setProduct(ProductDtoMapper.toResponse(event.product()));
+        }
+        if (event.price() != null) {
+            response.setPrice(PriceDtoMapper.toPriceResponse(event.price()));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mango.products.infrastructure.rest.mapper;
+
+import com.mango.products.domain.model.PriceCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Encodes {@link PriceCursor} as an opaque, URL-safe token ({@code base64url("initDate:id")}).
+ */
+public class PriceCursorMapper {
+
+    private static final String SEPARATOR = ":";
+
+    public static String toToken(PriceCursor cursor) {
+        String raw = cursor.initDate() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PriceCursor fromToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new PriceCursor(LocalDate.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid price history cursor: " + token);
+        }
+    }
+}
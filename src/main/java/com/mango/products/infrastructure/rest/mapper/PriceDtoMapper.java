@@ -1,12 +1,26 @@
 package com.mango.products.infrastructure.rest.mapper;
 
+import com.mango.products.application.usecase.PriceImportResult;
+import com.mango.products.application.usecase.PriceImportRow;
+import com.mango.products.domain.model.CurrentPriceLookup;
 import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
 import com.mango.products.infrastructure.rest.dto.CurrentPriceResponse;
+import com.mango.products.infrastructure.rest.dto.CurrentPricesResponse;
 import com.mango.products.infrastructure.rest.dto.GetProductPrices200Response;
+import com.mango.products.infrastructure.rest.dto.PriceImportItem;
+import com.mango.products.infrastructure.rest.dto.PriceImportResponse;
+import com.mango.products.infrastructure.rest.dto.PriceImportRowError;
 import com.mango.products.infrastructure.rest.dto.PriceResponse;
+import com.mango.products.infrastructure.rest.dto.ProductCurrentPrices;
 import com.mango.products.infrastructure.rest.dto.ProductPriceHistoryResponse;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class PriceDtoMapper {
@@ -29,6 +43,23 @@ public class PriceDtoMapper {
         return response;
     }
 
+    public static CurrentPricesResponse toCurrentPricesResponse(LocalDate date, String currency, List<CurrentPriceLookup> lookups) {
+        Map<String, ProductCurrentPrices> products = new LinkedHashMap<>();
+        for (CurrentPriceLookup lookup : lookups) {
+            ProductCurrentPrices entry = new ProductCurrentPrices();
+            entry.setStatus(ProductCurrentPrices.StatusEnum.fromValue(lookup.status().name()));
+            entry.setPrices(lookup.prices().stream()
+                .map(price -> (CurrentPriceResponse) toCurrentPriceResponse(price))
+                .collect(Collectors.toList()));
+            products.put(String.valueOf(lookup.productId()), entry);
+        }
+        CurrentPricesResponse response = new CurrentPricesResponse();
+        response.setDate(date);
+        response.setCurrency(currency);
+        response.setProducts(products);
+        return response;
+    }
+
     public static GetProductPrices200Response toHistoryResponse(Long productId, String name, String description, List<Price> prices) {
         ProductPriceHistoryResponse response = new ProductPriceHistoryResponse();
         response.setId(productId);
@@ -39,5 +70,44 @@ public class PriceDtoMapper {
             .collect(Collectors.toList()));
         return response;
     }
-}
 
+    public static GetProductPrices200Response toHistoryResponse(ProductPriceHistory history) {
+        Product product = history.getProduct();
+        return toHistoryResponse(product.getId(), product.getName(), product.getDescription(), history.getPrices());
+    }
+
+    public static GetProductPrices200Response toHistoryPageResponse(Long productId, String name, String description,
+                                                                    List<Price> prices, String nextCursor) {
+        ProductPriceHistoryResponse response = (ProductPriceHistoryResponse) toHistoryResponse(productId, name, description, prices);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
+
+    public static PriceImportRow toImportRow(PriceImportItem item) {
+        // A missing value is rejected as a row error by the import, not here
+        return new PriceImportRow(
+            item.getProductId(),
+            item.getValue() != null ? BigDecimal.valueOf(item.getValue()) : null,
+            item.getCurrency(),
+            item.getInitDate(),
+            item.getEndDate()
+        );
+    }
+
+    public static PriceImportResponse toImportResponse(PriceImportResult result) {
+        PriceImportResponse response = new PriceImportResponse();
+        response.setReceived(result.received());
+        response.setImported(result.imported());
+        response.setRejected(result.rejected());
+        response.setErrors(result.errors().stream()
+            .map(error -> {
+                PriceImportRowError rowError = new PriceImportRowError();
+                rowError.setIndex(error.index());
+                rowError.setProductId(error.productId());
+                rowError.setMessage(error.message());
+                return rowError;
+            })
+            .collect(Collectors.toList()));
+        return response;
+    }
+}
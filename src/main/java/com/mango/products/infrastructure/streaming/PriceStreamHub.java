@@ -0,0 +1,214 @@
+package com.mango.products.infrastructure.streaming;
+
+import com.mango.products.application.port.out.PriceAddedPublisher;
+import com.mango.products.domain.model.Price;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of newly added prices to the live subscribers of each product.
+ * <p>
+ * Subscribers hold no thread while idle. Each one has a bounded buffer and is drained by a
+ * virtual thread only while it has something to send, so a slow client blocks nobody but itself.
+ * A subscriber whose buffer is full when a price arrives has fallen behind and is disconnected
+ * rather than silently skipping a price; it reconnects and re-reads the current prices.
+ * <p>
+ * Prices are delivered once the transaction that added them commits. Only prices added on this
+ * instance are seen.
+ */
+@Component
+public class PriceStreamHub implements PriceAddedPublisher, AutoCloseable {
+
+    static final String SUBSCRIBERS_METRIC = "products.prices.stream.subscribers";
+    static final String DISCONNECTED_METRIC = "products.prices.stream.disconnected.slow";
+
+    // Queued between prices to probe idle connections
+    private static final Object HEARTBEAT = new Object();
+
+    private final Map<Long, Set<Subscriber>> subscribersByProduct = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final int bufferSize;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+    private final Counter disconnectedSlow;
+
+    public PriceStreamHub(MeterRegistry meterRegistry,
+                          @Value("${products.prices.stream.buffer-size:16}") int bufferSize,
+                          @Value("${products.prices.stream.heartbeat:15s}") Duration heartbeat) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Price stream buffer size must be greater than zero");
+        }
+        this.bufferSize = bufferSize;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("price-stream-heartbeat").factory());
+        this.heartbeats.scheduleWithFixedDelay(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder(SUBSCRIBERS_METRIC, subscriberCount, AtomicInteger::get)
+                .description("Open price stream subscriptions")
+                .register(meterRegistry);
+        this.disconnectedSlow = Counter.builder(DISCONNECTED_METRIC)
+                .description("Price stream subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    public Subscription subscribe(Long productId, Sink sink) {
+        subscriberCount.incrementAndGet();
+        Subscriber subscriber = new Subscriber(productId, sink, new ArrayBlockingQueue<>(bufferSize));
+        // Added inside compute so a concurrent unregister cannot drop the set it is being added to
+        subscribersByProduct.compute(productId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.<Subscriber>newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        return subscriber::cancel;
+    }
+
+    @Override
+    public void priceAdded(Price price) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanOut(price);
+                }
+            });
+            return;
+        }
+        fanOut(price);
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        subscribersByProduct.values().forEach(subscribers -> subscribers.forEach(Subscriber::cancel));
+        senders.shutdown();
+    }
+
+    private void fanOut(Price price) {
+        Set<Subscriber> subscribers = subscribersByProduct.get(price.getProductId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(price)) {
+                subscriber.scheduleDrain();
+            } else {
+                disconnectedSlow.increment();
+                subscriber.cancel();
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Set<Subscriber> subscribers : subscribersByProduct.values()) {
+            for (Subscriber subscriber : subscribers) {
+                // A full buffer already has a send pending that will detect a dead connection
+                if (subscriber.queue.offer(HEARTBEAT)) {
+                    subscriber.scheduleDrain();
+                }
+            }
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribersByProduct.computeIfPresent(subscriber.productId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    private final class Subscriber {
+
+        private final Long productId;
+        private final Sink sink;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Subscriber(Long productId, Sink sink, BlockingQueue<Object> queue) {
+            this.productId = productId;
+            this.sink = sink;
+            this.queue = queue;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Object item;
+                while (!cancelled.get() && (item = queue.poll()) != null) {
+                    try {
+                        if (item == HEARTBEAT) {
+                            sink.heartbeat();
+                        } else {
+                            sink.send((Price) item);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        // The client went away
+                        cancel();
+                    }
+                }
+                draining.set(false);
+                // An item offered after the last poll but before the flag was cleared needs a new drain
+            } while (!cancelled.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                queue.clear();
+                unregister(this);
+                sink.close();
+            }
+        }
+    }
+
+    /**
+     * Where a subscriber's events are written; called from one thread at a time.
+     */
+    public interface Sink {
+
+        void send(Price price) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        /**
+         * Ends the stream; called once, when the subscription is cancelled or the client is
+         * disconnected.
+         */
+        void close();
+    }
+
+    @FunctionalInterface
+    public interface Subscription {
+
+        void cancel();
+    }
+}
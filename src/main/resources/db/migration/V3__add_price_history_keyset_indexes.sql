@@ -0,0 +1,9 @@
+-- Keyset pagination of the price history: (init_date, id) DESC per product, optionally per currency.
+-- INCLUDE the remaining selected columns so pages are served by index-only range scans.
+CREATE INDEX ix_product_prices_history_keyset
+  ON product_prices (product_id, init_date DESC, id DESC)
+  INCLUDE (currency, value, end_date);
+
+CREATE INDEX ix_product_prices_currency_history_keyset
+  ON product_prices (product_id, currency, init_date DESC, id DESC)
+  INCLUDE (value, end_date);
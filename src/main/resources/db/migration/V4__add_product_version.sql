@@ -0,0 +1,3 @@
+-- Per-product version, bumped whenever the product or its prices change; served as the ETag of
+-- GET /products/{id} and GET /products/{id}/prices.
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 1;
@@ -0,0 +1,18 @@
+-- Transactional outbox: change events are inserted in the same transaction as the change itself.
+-- The relay assigns feed_offset in batches, one relay at a time, so offsets only ever become
+-- visible in increasing order; consumers read GET /changes?after=<last offset seen>.
+CREATE TABLE outbox_events (
+  id BIGSERIAL PRIMARY KEY,
+  event_type VARCHAR(32) NOT NULL,
+  product_id BIGINT NOT NULL,
+  payload JSONB NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  feed_offset BIGINT NULL,
+  published_at TIMESTAMPTZ NULL,
+  CONSTRAINT ux_outbox_events_feed_offset UNIQUE (feed_offset)
+);
+
+CREATE SEQUENCE outbox_feed_offset_seq;
+
+-- Events still waiting for the relay, oldest first
+CREATE INDEX ix_outbox_events_pending ON outbox_events (id) WHERE feed_offset IS NULL;
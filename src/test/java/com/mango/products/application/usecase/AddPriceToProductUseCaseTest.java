@@ -1,23 +1,35 @@
 package com.mango.products.application.usecase;
 
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.PriceAddedPublisher;
 import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductChangePublisher;
 import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.DuplicatePriceException;
+import com.mango.products.domain.exception.InvalidCurrencyException;
+import com.mango.products.domain.exception.InvalidPriceException;
 import com.mango.products.domain.exception.PriceOverlapException;
 import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.ChangeEvent;
 import com.mango.products.domain.model.Price;
-import com.mango.products.domain.model.Product;
+import com.mango.products.domain.exception.FrozenPriceHistoryException;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
 import com.mango.products.domain.service.PriceOverlapValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.Currency;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,9 +47,23 @@ class AddPriceToProductUseCaseTest {
     @Mock
     private PriceOverlapValidator overlapValidator;
 
-    @InjectMocks
+    @Mock
+    private ProductChangePublisher changePublisher;
+
+    @Mock
+    private ChangeEventOutbox outbox;
+
+    @Mock
+    private PriceAddedPublisher priceAddedPublisher;
+
     private AddPriceToProductUseCase addPriceToProductUseCase;
 
+    @BeforeEach
+    void setUp() {
+        addPriceToProductUseCase = new AddPriceToProductUseCase(
+            productRepository, priceRepository, overlapValidator, PriceHistoryFreezePolicy.disabled(), changePublisher, outbox, priceAddedPublisher, PriceWriteMode.VALIDATE_FIRST);
+    }
+
     @Test
     void givenValidPriceDataAndNoOverlapping_whenAddingPrice_thenShouldSaveAndReturnPrice() {
         // Given
@@ -48,10 +74,9 @@ class AddPriceToProductUseCaseTest {
         LocalDate initDate = LocalDate.of(2025, 1, 1);
         LocalDate endDate = LocalDate.of(2025, 1, 31);
 
-        Product product = Product.of(productId, "Product", "Product Description");
         Price savedPrice = Price.of(1L, productId, value, currency, initDate, endDate);
 
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.incrementVersion(productId)).thenReturn(true);
         when(priceRepository.findByProductIdAndCurrency(productId, currencyCode)).thenReturn(Collections.emptyList());
         when(priceRepository.save(any(Price.class))).thenReturn(savedPrice);
         doNothing().when(overlapValidator).validate(any(Price.class), anyList());
@@ -67,10 +92,13 @@ class AddPriceToProductUseCaseTest {
         assertEquals(initDate, result.getInitDate());
         assertEquals(endDate, result.getEndDate());
 
-        verify(productRepository, times(1)).findById(productId);
+        verify(productRepository, times(1)).incrementVersion(productId);
         verify(priceRepository, times(1)).findByProductIdAndCurrency(productId, currencyCode);
         verify(overlapValidator, times(1)).validate(any(Price.class), anyList());
         verify(priceRepository, times(1)).save(any(Price.class));
+        verify(changePublisher, times(1)).productChanged(productId);
+        verify(outbox, times(1)).append(ChangeEvent.priceAdded(savedPrice));
+        verify(priceAddedPublisher, times(1)).priceAdded(savedPrice);
     }
 
     @Test
@@ -82,7 +110,7 @@ class AddPriceToProductUseCaseTest {
         LocalDate initDate = LocalDate.of(2025, 1, 1);
         LocalDate endDate = LocalDate.of(2025, 1, 31);
 
-        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        when(productRepository.incrementVersion(productId)).thenReturn(false);
 
         // When & Then
         ProductNotFoundException exception = assertThrows(
@@ -91,7 +119,10 @@ class AddPriceToProductUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains("999"));
-        verify(productRepository, times(1)).findById(productId);
+        verify(productRepository, times(1)).incrementVersion(productId);
+        verify(changePublisher, never()).productChanged(any());
+        verifyNoInteractions(outbox);
+        verifyNoInteractions(priceAddedPublisher);
         verify(priceRepository, never()).findByProductIdAndCurrency(any(), any());
         verify(overlapValidator, never()).validate(any(), any());
         verify(priceRepository, never()).save(any());
@@ -107,11 +138,10 @@ class AddPriceToProductUseCaseTest {
         LocalDate initDate = LocalDate.of(2025, 1, 15);
         LocalDate endDate = LocalDate.of(2025, 2, 15);
 
-        Product product = Product.of(productId, "Product", "Product Description");
         Price existingPrice = Price.of(1L, productId, BigDecimal.valueOf(9.99), currency,
             LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
 
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.incrementVersion(productId)).thenReturn(true);
         when(priceRepository.findByProductIdAndCurrency(productId, currencyCode)).thenReturn(Collections.singletonList(existingPrice));
         doThrow(new PriceOverlapException(productId, initDate, endDate))
             .when(overlapValidator).validate(any(Price.class), anyList());
@@ -123,7 +153,7 @@ class AddPriceToProductUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains("1"));
-        verify(productRepository, times(1)).findById(productId);
+        verify(productRepository, times(1)).incrementVersion(productId);
         verify(priceRepository, times(1)).findByProductIdAndCurrency(productId, currencyCode);
         verify(overlapValidator, times(1)).validate(any(Price.class), anyList());
         verify(priceRepository, never()).save(any());
@@ -139,10 +169,9 @@ class AddPriceToProductUseCaseTest {
         LocalDate initDate = LocalDate.of(2025, 1, 1);
         LocalDate endDate = null;
 
-        Product product = Product.of(productId, "Product", "Product Description");
         Price savedPrice = Price.of(1L, productId, value, currency, initDate, endDate);
 
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.incrementVersion(productId)).thenReturn(true);
         when(priceRepository.findByProductIdAndCurrency(productId, currencyCode)).thenReturn(Collections.emptyList());
         when(priceRepository.save(any(Price.class))).thenReturn(savedPrice);
         doNothing().when(overlapValidator).validate(any(Price.class), anyList());
@@ -157,5 +186,130 @@ class AddPriceToProductUseCaseTest {
         verify(overlapValidator, times(1)).validate(any(Price.class), anyList());
         verify(priceRepository, times(1)).save(any(Price.class));
     }
-}
 
+    @Test
+    void givenPriceStartingInFrozenHistory_whenAddingPrice_thenShouldRejectWithoutSaving() {
+        // Given
+        Long productId = 1L;
+        Clock clock = Clock.fixed(LocalDate.of(2025, 6, 30).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        addPriceToProductUseCase = new AddPriceToProductUseCase(productRepository, priceRepository, overlapValidator,
+            new PriceHistoryFreezePolicy(true, Period.ofDays(30), clock), changePublisher, outbox, priceAddedPublisher, PriceWriteMode.VALIDATE_FIRST);
+        when(productRepository.incrementVersion(productId)).thenReturn(true);
+
+        // When & Then
+        assertThrows(FrozenPriceHistoryException.class, () -> addPriceToProductUseCase.execute(
+            productId, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 5, 1), null));
+        verify(priceRepository, never()).save(any());
+    }
+
+    @Test
+    void givenProductDeletedConcurrently_whenSavingPrice_thenShouldThrowProductNotFound() {
+        // Given
+        Long productId = 1L;
+
+        when(productRepository.incrementVersion(productId)).thenReturn(true);
+        when(priceRepository.findByProductIdAndCurrency(productId, "EUR")).thenReturn(Collections.emptyList());
+        when(priceRepository.save(any(Price.class))).thenThrow(new RepositoryConstraintViolationException(
+            "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.FOREIGN_KEY, null));
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> addPriceToProductUseCase.execute(
+            productId, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null));
+    }
+
+    @Nested
+    class ConstraintFirstModeTest {
+
+        @BeforeEach
+        void setUp() {
+            addPriceToProductUseCase = new AddPriceToProductUseCase(
+                productRepository, priceRepository, overlapValidator, PriceHistoryFreezePolicy.disabled(), changePublisher, outbox, priceAddedPublisher, PriceWriteMode.CONSTRAINT_FIRST);
+        }
+
+        @Test
+        void givenValidPrice_whenAddingPrice_thenShouldInsertAndBumpVersion() {
+            // Given
+            Long productId = 1L;
+            Price savedPrice = Price.of(1L, productId, BigDecimal.valueOf(10.99), Currency.getInstance("EUR"),
+                LocalDate.of(2025, 1, 1), null);
+            when(priceRepository.save(any(Price.class))).thenReturn(savedPrice);
+
+            // When
+            Price result = addPriceToProductUseCase.execute(
+                productId, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null);
+
+            // Then
+            assertEquals(1L, result.getId());
+            verify(priceRepository, times(1)).save(any(Price.class));
+            verify(productRepository, times(1)).incrementVersion(productId);
+            verifyNoMoreInteractions(priceRepository, productRepository);
+            verifyNoInteractions(overlapValidator);
+        }
+
+        @Test
+        void givenForeignKeyViolation_whenAddingPrice_thenShouldThrowProductNotFound() {
+            // Given
+            when(priceRepository.save(any(Price.class))).thenThrow(new RepositoryConstraintViolationException(
+                "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.FOREIGN_KEY, null));
+
+            // When & Then
+            ProductNotFoundException exception = assertThrows(ProductNotFoundException.class,
+                () -> addPriceToProductUseCase.execute(999L, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null));
+            assertTrue(exception.getMessage().contains("999"));
+        }
+
+        @Test
+        void givenExclusionViolation_whenAddingPrice_thenShouldThrowPriceOverlap() {
+            // Given
+            when(priceRepository.save(any(Price.class))).thenThrow(new RepositoryConstraintViolationException(
+                "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.EXCLUSION, null));
+
+            // When & Then
+            assertThrows(PriceOverlapException.class,
+                () -> addPriceToProductUseCase.execute(1L, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null));
+        }
+
+        @Test
+        void givenCheckViolation_whenAddingPrice_thenShouldThrowInvalidPrice() {
+            // Given
+            when(priceRepository.save(any(Price.class))).thenThrow(new RepositoryConstraintViolationException(
+                "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.CHECK, null));
+
+            // When & Then
+            assertThrows(InvalidPriceException.class,
+                () -> addPriceToProductUseCase.execute(1L, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null));
+        }
+
+        @Test
+        void givenUniqueViolation_whenAddingPrice_thenShouldThrowDuplicatePrice() {
+            // Given
+            when(priceRepository.save(any(Price.class))).thenThrow(new RepositoryConstraintViolationException(
+                "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.UNIQUE, null));
+
+            // When & Then
+            assertThrows(DuplicatePriceException.class,
+                () -> addPriceToProductUseCase.execute(1L, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null));
+        }
+
+        @Test
+        void givenUnknownConstraintViolation_whenAddingPrice_thenShouldNotReportItAsOverlap() {
+            // Given
+            RepositoryConstraintViolationException violation = new RepositoryConstraintViolationException(
+                "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.OTHER, null);
+            when(priceRepository.save(any(Price.class))).thenThrow(violation);
+
+            // When & Then
+            RepositoryConstraintViolationException exception = assertThrows(RepositoryConstraintViolationException.class,
+                () -> addPriceToProductUseCase.execute(1L, BigDecimal.valueOf(10.99), "EUR", LocalDate.of(2025, 1, 1), null));
+            assertSame(violation, exception);
+        }
+
+        @Test
+        void givenInvalidCurrency_whenAddingPrice_thenShouldNotReachDatabase() {
+            // When & Then
+            assertThrows(InvalidCurrencyException.class,
+                () -> addPriceToProductUseCase.execute(1L, BigDecimal.valueOf(10.99), "XXXX", LocalDate.of(2025, 1, 1), null));
+            verifyNoInteractions(priceRepository, productRepository);
+        }
+    }
+}
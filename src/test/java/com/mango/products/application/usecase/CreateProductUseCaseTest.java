@@ -1,7 +1,10 @@
 package com.mango.products.application.usecase;
 
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.ProductChangePublisher;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.exception.ProductAlreadyExistsException;
+import com.mango.products.domain.model.ChangeEvent;
 import com.mango.products.domain.model.Product;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +22,12 @@ class CreateProductUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductChangePublisher changePublisher;
+
+    @Mock
+    private ChangeEventOutbox outbox;
+
     @InjectMocks
     private CreateProductUseCase createProductUseCase;
 
@@ -41,6 +50,8 @@ class CreateProductUseCaseTest {
         assertEquals(description, result.getDescription());
 
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(changePublisher, times(1)).productChanged(1L);
+        verify(outbox, times(1)).append(ChangeEvent.productCreated(createdProduct));
     }
 
     @Test
@@ -79,5 +90,6 @@ class CreateProductUseCaseTest {
 
         assertTrue(exception.getMessage().contains(name));
         verify(productRepository, times(1)).save(any(Product.class));
+        verifyNoInteractions(changePublisher, outbox);
     }
 }
\ No newline at end of file
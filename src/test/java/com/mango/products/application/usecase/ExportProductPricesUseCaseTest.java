@@ -0,0 +1,72 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportProductPricesUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @InjectMocks
+    private ExportProductPricesUseCase exportProductPricesUseCase;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenExistingProduct_whenExportingPrices_thenShouldPushEveryStreamedPrice() {
+        // Given
+        Long productId = 1L;
+        Price price = Price.of(1L, productId, BigDecimal.valueOf(10.99), Currency.getInstance("EUR"),
+            LocalDate.of(2025, 1, 1), null);
+
+        when(productRepository.existsById(productId)).thenReturn(true);
+        doAnswer(invocation -> {
+            ((Consumer<Price>) invocation.getArgument(2)).accept(price);
+            return null;
+        }).when(priceRepository).forEachByProductId(eq(productId), eq("EUR"), any());
+
+        List<Price> exported = new ArrayList<>();
+
+        // When
+        exportProductPricesUseCase.exportPrices(productId, "EUR", exported::add);
+
+        // Then
+        assertEquals(List.of(price), exported);
+        verify(priceRepository, times(1)).forEachByProductId(eq(productId), eq("EUR"), any());
+    }
+
+    @Test
+    void givenNonExistingProduct_whenExportingPrices_thenShouldThrowException() {
+        // Given
+        Long productId = 999L;
+        when(productRepository.existsById(productId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class,
+            () -> exportProductPricesUseCase.exportPrices(productId, null, price -> { }));
+        verifyNoInteractions(priceRepository);
+    }
+}
@@ -0,0 +1,52 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.ChangeFeedRepository;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetChangeFeedUseCaseTest {
+
+    @Mock
+    private ChangeFeedRepository changeFeedRepository;
+
+    @InjectMocks
+    private GetChangeFeedUseCase getChangeFeedUseCase;
+
+    @Test
+    void givenPublishedEvents_whenReadingAfterOffset_thenShouldReturnThem() {
+        // Given
+        ChangeEvent event = new ChangeEvent(42L, ChangeEvent.Type.PRODUCT_CREATED, 7L, Instant.parse("2025-04-15T10:30:00Z"),
+            Product.of(7L, "Product", null), null);
+        when(changeFeedRepository.findPublishedAfter(41L, 100)).thenReturn(List.of(event));
+
+        // When
+        List<ChangeEvent> events = getChangeFeedUseCase.execute(41L, 100);
+
+        // Then
+        assertEquals(List.of(event), events);
+    }
+
+    @Test
+    void givenInvalidOffsetOrLimit_whenReading_thenShouldRejectWithoutQuerying() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> getChangeFeedUseCase.execute(-1L, 100));
+        assertThrows(IllegalArgumentException.class, () -> getChangeFeedUseCase.execute(0L, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> getChangeFeedUseCase.execute(0L, GetChangeFeedUseCase.MAX_LIMIT + 1));
+        verify(changeFeedRepository, never()).findPublishedAfter(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,158 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductPriceHistoryRepository;
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceCursor;
+import com.mango.products.domain.model.Product;
+import com.mango.products.domain.model.ProductPriceHistory;
+import com.mango.products.domain.model.ProductPriceHistoryPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetProductPriceHistoryUseCaseTest {
+
+    @Mock
+    private ProductPriceHistoryRepository historyRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @InjectMocks
+    private GetProductPriceHistoryUseCase getProductPriceHistoryUseCase;
+
+    @Test
+    void givenExistingProductWithPrices_whenGettingHistory_thenShouldReturnProductAndPrices() {
+        // Given
+        Long productId = 1L;
+        Product product = Product.of(productId, "Product", "Product Description");
+        Price price = Price.of(1L, productId, BigDecimal.valueOf(10.99), Currency.getInstance("EUR"),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        when(historyRepository.findByProductId(productId))
+            .thenReturn(Optional.of(ProductPriceHistory.of(product, List.of(price))));
+
+        // When
+        ProductPriceHistory result = getProductPriceHistoryUseCase.getHistory(productId);
+
+        // Then
+        assertEquals(product, result.getProduct());
+        assertEquals(List.of(price), result.getPrices());
+        verify(historyRepository, times(1)).findByProductId(productId);
+        verifyNoMoreInteractions(historyRepository);
+    }
+
+    @Test
+    void givenExistingProductWithoutPricesInCurrency_whenGettingHistoryByCurrency_thenShouldReturnEmptyPrices() {
+        // Given
+        Long productId = 1L;
+        Product product = Product.of(productId, "Product", null);
+
+        when(historyRepository.findByProductIdAndCurrency(productId, "USD"))
+            .thenReturn(Optional.of(ProductPriceHistory.of(product, Collections.emptyList())));
+
+        // When
+        ProductPriceHistory result = getProductPriceHistoryUseCase.getHistoryByCurrency(productId, "USD");
+
+        // Then
+        assertEquals(product, result.getProduct());
+        assertTrue(result.getPrices().isEmpty());
+    }
+
+    @Test
+    void givenNonExistingProduct_whenGettingHistory_thenShouldThrowException() {
+        // Given
+        Long productId = 999L;
+        when(historyRepository.findByProductId(productId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> getProductPriceHistoryUseCase.getHistory(productId));
+    }
+
+    @Test
+    void givenNonExistingProduct_whenGettingPricesOnDate_thenShouldThrowException() {
+        // Given
+        Long productId = 999L;
+        LocalDate date = LocalDate.of(2025, 1, 15);
+        when(historyRepository.findByProductIdAndDate(productId, date)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class,
+            () -> getProductPriceHistoryUseCase.getPricesOnDate(productId, date));
+    }
+
+    @Test
+    void givenMorePricesThanLimit_whenGettingHistoryPage_thenShouldReturnPageAndNextCursor() {
+        // Given
+        Long productId = 1L;
+        Currency eur = Currency.getInstance("EUR");
+        Product product = Product.of(productId, "Product", null);
+        Price march = Price.of(3L, productId, BigDecimal.valueOf(12.00), eur, LocalDate.of(2025, 3, 1), null);
+        Price february = Price.of(2L, productId, BigDecimal.valueOf(11.00), eur,
+            LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+        Price january = Price.of(1L, productId, BigDecimal.valueOf(10.00), eur,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(priceRepository.findPageByProductId(productId, null, null, 3))
+            .thenReturn(Arrays.asList(march, february, january));
+
+        // When
+        ProductPriceHistoryPage page = getProductPriceHistoryUseCase.getHistoryPage(productId, null, null, 2);
+
+        // Then
+        assertEquals(Arrays.asList(march, february), page.getHistory().getPrices());
+        assertEquals(Optional.of(new PriceCursor(LocalDate.of(2025, 2, 1), 2L)), page.getNextCursor());
+    }
+
+    @Test
+    void givenLastPage_whenGettingHistoryPage_thenShouldNotReturnNextCursor() {
+        // Given
+        Long productId = 1L;
+        PriceCursor after = new PriceCursor(LocalDate.of(2025, 2, 1), 2L);
+        Price january = Price.of(1L, productId, BigDecimal.valueOf(10.00), Currency.getInstance("EUR"),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(Product.of(productId, "Product", null)));
+        when(priceRepository.findPageByProductId(productId, "EUR", after, 3)).thenReturn(List.of(january));
+
+        // When
+        ProductPriceHistoryPage page = getProductPriceHistoryUseCase.getHistoryPage(productId, "EUR", after, 2);
+
+        // Then
+        assertEquals(List.of(january), page.getHistory().getPrices());
+        assertTrue(page.getNextCursor().isEmpty());
+    }
+
+    @Test
+    void givenNonExistingProduct_whenGettingHistoryPage_thenShouldThrowException() {
+        // Given
+        Long productId = 999L;
+        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class,
+            () -> getProductPriceHistoryUseCase.getHistoryPage(productId, null, null, 10));
+        verifyNoInteractions(priceRepository);
+    }
+}
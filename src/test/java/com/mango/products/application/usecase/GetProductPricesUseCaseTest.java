@@ -3,6 +3,7 @@ package com.mango.products.application.usecase;
 import com.mango.products.application.port.out.PriceRepository;
 import com.mango.products.application.port.out.ProductRepository;
 import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.CurrentPriceLookup;
 import com.mango.products.domain.model.Price;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +17,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -325,4 +328,30 @@ class GetProductPricesUseCaseTest {
         verify(productRepository, times(1)).existsById(productId);
         verify(priceRepository, never()).findByProductIdAndCurrencyAndDate(any(), any(), any());
     }
+
+    @Test
+    void givenManyProducts_whenGettingCurrentPricesForProducts_thenShouldResolveAllWithOneQueryInRequestOrder() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 1, 15);
+        Price price = Price.of(1L, 2L, BigDecimal.valueOf(10.99), Currency.getInstance("EUR"),
+            LocalDate.of(2025, 1, 1), null);
+
+        when(priceRepository.findActiveByProductIds(Set.of(2L, 1L, 999L), "EUR", date))
+            .thenReturn(Map.of(1L, List.of(), 2L, List.of(price)));
+
+        // When
+        List<CurrentPriceLookup> result = getProductPricesUseCase.getCurrentPricesForProducts(
+            Arrays.asList(2L, 1L, 999L, 2L), "EUR", date);
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(2L, result.get(0).productId());
+        assertEquals(CurrentPriceLookup.Status.FOUND, result.get(0).status());
+        assertEquals(List.of(price), result.get(0).prices());
+        assertEquals(CurrentPriceLookup.Status.PRICE_NOT_FOUND, result.get(1).status());
+        assertEquals(CurrentPriceLookup.Status.PRODUCT_NOT_FOUND, result.get(2).status());
+
+        verify(priceRepository, times(1)).findActiveByProductIds(any(), any(), any());
+        verifyNoInteractions(productRepository);
+    }
 }
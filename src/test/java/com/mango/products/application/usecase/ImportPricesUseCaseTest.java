@@ -0,0 +1,198 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ChangeEventOutbox;
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.exception.PriceImportConflictException;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import com.mango.products.domain.service.PriceOverlapValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportPricesUseCaseTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    @Mock
+    private ProductChangePublisher changePublisher;
+
+    @Mock
+    private ChangeEventOutbox outbox;
+
+    private ImportPricesUseCase importPricesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        importPricesUseCase = new ImportPricesUseCase(productRepository, priceRepository, PriceHistoryFreezePolicy.disabled(),
+            new PriceOverlapValidator(), changePublisher, outbox);
+    }
+
+    @Test
+    void givenValidRowsForSeveralProducts_whenImporting_thenShouldLoadOnceAndSaveAllInOneBatch() {
+        // Given
+        List<PriceImportRow> rows = List.of(
+            row(1L, "EUR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)),
+            row(1L, "EUR", LocalDate.of(2025, 2, 1), null),
+            row(2L, "USD", LocalDate.of(2025, 1, 1), null)
+        );
+        when(productRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(priceRepository.findByProductIds(anyCollection())).thenReturn(List.of());
+
+        // When
+        PriceImportResult result = importPricesUseCase.execute(rows);
+
+        // Then
+        assertEquals(3, result.received());
+        assertEquals(3, result.imported());
+        assertEquals(0, result.rejected());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Price>> saved = ArgumentCaptor.forClass(List.class);
+        verify(priceRepository, times(1)).saveAll(saved.capture());
+        assertEquals(3, saved.getValue().size());
+        verify(productRepository, times(1)).findExistingIds(anyCollection());
+        verify(priceRepository, times(1)).findByProductIds(anyCollection());
+        verify(priceRepository, never()).save(any());
+        verify(productRepository, times(1)).incrementVersions(Set.of(1L, 2L));
+        verify(changePublisher, times(1)).productsChanged(Set.of(1L, 2L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ChangeEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outbox, times(1)).append(events.capture());
+        assertEquals(Set.of(ChangeEvent.pricesImported(1L), ChangeEvent.pricesImported(2L)), Set.copyOf(events.getValue()));
+    }
+
+    @Test
+    void givenInvalidRows_whenImporting_thenShouldReportThemByIndexAndImportTheRest() {
+        // Given
+        List<PriceImportRow> rows = List.of(
+            row(1L, "EUR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)),
+            row(999L, "EUR", LocalDate.of(2025, 1, 1), null),
+            row(1L, "XXXX", LocalDate.of(2025, 1, 1), null),
+            row(1L, "EUR", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1)),
+            row(1L, "EUR", LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 15))
+        );
+        when(productRepository.findExistingIds(Set.of(1L, 999L))).thenReturn(Set.of(1L));
+        when(priceRepository.findByProductIds(Set.of(1L))).thenReturn(List.of());
+
+        // When
+        PriceImportResult result = importPricesUseCase.execute(rows);
+
+        // Then
+        assertEquals(5, result.received());
+        assertEquals(1, result.imported());
+        assertEquals(4, result.rejected());
+        assertEquals(List.of(1, 2, 3, 4), result.errors().stream().map(PriceImportResult.RowError::index).toList());
+        assertTrue(result.errors().get(0).message().contains("999"));
+        assertTrue(result.errors().get(1).message().contains("XXXX"));
+        assertTrue(result.errors().get(3).message().contains("already exists"));
+    }
+
+    @Test
+    void givenRowWithoutValue_whenImporting_thenShouldRejectItAndImportTheRest() {
+        // Given
+        List<PriceImportRow> rows = List.of(
+            new PriceImportRow(1L, null, "EUR", LocalDate.of(2025, 1, 1), null),
+            row(1L, "USD", LocalDate.of(2025, 1, 1), null)
+        );
+        when(productRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(priceRepository.findByProductIds(Set.of(1L))).thenReturn(List.of());
+
+        // When
+        PriceImportResult result = importPricesUseCase.execute(rows);
+
+        // Then
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals(0, result.errors().get(0).index());
+        assertTrue(result.errors().get(0).message().contains("required"));
+    }
+
+    @Test
+    void givenRowOverlappingStoredPrice_whenImporting_thenShouldRejectIt() {
+        // Given
+        Price stored = Price.of(10L, 1L, BigDecimal.valueOf(9.99), EUR, LocalDate.of(2025, 1, 1), null);
+        List<PriceImportRow> rows = List.of(
+            row(1L, "EUR", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30)),
+            row(1L, "USD", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30))
+        );
+        when(productRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(priceRepository.findByProductIds(Set.of(1L))).thenReturn(List.of(stored));
+
+        // When
+        PriceImportResult result = importPricesUseCase.execute(rows);
+
+        // Then
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals(0, result.errors().get(0).index());
+    }
+
+    @Test
+    void givenRowStartingInFrozenHistory_whenImporting_thenShouldRejectIt() {
+        // Given
+        Clock clock = Clock.fixed(LocalDate.of(2025, 6, 30).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        importPricesUseCase = new ImportPricesUseCase(productRepository, priceRepository,
+            new PriceHistoryFreezePolicy(true, Period.ofDays(30), clock), new PriceOverlapValidator(), changePublisher, outbox);
+        List<PriceImportRow> rows = List.of(
+            row(1L, "EUR", LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31)),
+            row(1L, "EUR", LocalDate.of(2025, 6, 1), null)
+        );
+        when(productRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(priceRepository.findByProductIds(Set.of(1L))).thenReturn(List.of());
+
+        // When
+        PriceImportResult result = importPricesUseCase.execute(rows);
+
+        // Then
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals(0, result.errors().get(0).index());
+        assertTrue(result.errors().get(0).message().contains("frozen"));
+    }
+
+    @Test
+    void givenConcurrentConflictingWrite_whenSaving_thenShouldThrowImportConflict() {
+        // Given
+        List<PriceImportRow> rows = List.of(row(1L, "EUR", LocalDate.of(2025, 1, 1), null));
+        when(productRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(priceRepository.findByProductIds(Set.of(1L))).thenReturn(List.of());
+        doThrow(new RepositoryConstraintViolationException("Data constraint violation while saving prices", null))
+            .when(priceRepository).saveAll(anyList());
+
+        // When & Then
+        assertThrows(PriceImportConflictException.class, () -> importPricesUseCase.execute(rows));
+    }
+
+    private static PriceImportRow row(Long productId, String currency, LocalDate initDate, LocalDate endDate) {
+        return new PriceImportRow(productId, BigDecimal.valueOf(19.99), currency, initDate, endDate);
+    }
+}
@@ -0,0 +1,185 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.PriceAddedPublisher;
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.application.port.out.ReactiveChangeEventOutbox;
+import com.mango.products.application.port.out.ReactivePriceRepository;
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.InvalidCurrencyException;
+import com.mango.products.domain.exception.PriceOverlapException;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.service.PriceHistoryFreezePolicy;
+import com.mango.products.domain.service.PriceOverlapValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAddPriceToProductUseCaseTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final BigDecimal VALUE = BigDecimal.valueOf(10.99);
+    private static final LocalDate INIT_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 1, 31);
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Mock
+    private ReactivePriceRepository priceRepository;
+
+    @Mock
+    private PriceOverlapValidator overlapValidator;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ReactiveChangeEventOutbox outbox;
+
+    @Mock
+    private PriceAddedPublisher priceAddedPublisher;
+
+    @Mock
+    private ProductChangePublisher changePublisher;
+
+    private ReactiveAddPriceToProductUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(outbox.append(any(ChangeEvent.class))).thenReturn(Mono.empty());
+        useCase = new ReactiveAddPriceToProductUseCase(
+            productRepository, priceRepository, overlapValidator, PriceHistoryFreezePolicy.disabled(), transactionalOperator, outbox, priceAddedPublisher, changePublisher, PriceWriteMode.VALIDATE_FIRST);
+    }
+
+    @Test
+    void givenValidPriceAndNoOverlapping_whenAddingPrice_thenShouldSaveInsideTransaction() {
+        // Given
+        Price savedPrice = Price.of(1L, PRODUCT_ID, VALUE, Currency.getInstance("EUR"), INIT_DATE, END_DATE);
+        when(productRepository.incrementVersion(PRODUCT_ID)).thenReturn(Mono.just(true));
+        when(priceRepository.findByProductIdAndCurrency(PRODUCT_ID, "EUR")).thenReturn(Flux.empty());
+        when(priceRepository.save(any(Price.class))).thenReturn(Mono.just(savedPrice));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "EUR", INIT_DATE, END_DATE))
+            .expectNext(savedPrice)
+            .verifyComplete();
+        verify(overlapValidator).validate(any(Price.class), anyList());
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(outbox).append(ChangeEvent.priceAdded(savedPrice));
+        verify(priceAddedPublisher).priceAdded(savedPrice);
+        verify(changePublisher).productChanged(savedPrice.getProductId());
+    }
+
+    @Test
+    void givenNonExistingProduct_whenAddingPrice_thenShouldFailWithProductNotFound() {
+        // Given
+        when(productRepository.incrementVersion(PRODUCT_ID)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "EUR", INIT_DATE, END_DATE))
+            .expectError(ProductNotFoundException.class)
+            .verify();
+        verifyNoInteractions(priceRepository);
+    }
+
+    @Test
+    void givenInvalidCurrency_whenAddingPrice_thenShouldFailWithInvalidCurrency() {
+        // Given
+        when(productRepository.incrementVersion(PRODUCT_ID)).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "XXX1", INIT_DATE, END_DATE))
+            .expectError(InvalidCurrencyException.class)
+            .verify();
+        verifyNoInteractions(priceRepository);
+    }
+
+    @Test
+    void givenOverlappingPrice_whenAddingPrice_thenShouldFailWithoutSaving() {
+        // Given
+        Price existing = Price.of(2L, PRODUCT_ID, VALUE, Currency.getInstance("EUR"), INIT_DATE, null);
+        when(productRepository.incrementVersion(PRODUCT_ID)).thenReturn(Mono.just(true));
+        when(priceRepository.findByProductIdAndCurrency(PRODUCT_ID, "EUR")).thenReturn(Flux.just(existing));
+        doThrow(new PriceOverlapException(PRODUCT_ID, INIT_DATE, END_DATE))
+            .when(overlapValidator).validate(any(Price.class), eq(List.of(existing)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "EUR", INIT_DATE, END_DATE))
+            .expectError(PriceOverlapException.class)
+            .verify();
+        verify(priceRepository, never()).save(any(Price.class));
+        verifyNoInteractions(priceAddedPublisher, changePublisher);
+    }
+
+    @Test
+    void givenConcurrentOverlappingInsert_whenExclusionConstraintFires_thenShouldFailWithPriceOverlap() {
+        // Given
+        when(productRepository.incrementVersion(PRODUCT_ID)).thenReturn(Mono.just(true));
+        when(priceRepository.findByProductIdAndCurrency(PRODUCT_ID, "EUR")).thenReturn(Flux.empty());
+        when(priceRepository.save(any(Price.class))).thenReturn(Mono.error(new RepositoryConstraintViolationException(
+            "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.EXCLUSION, null)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "EUR", INIT_DATE, END_DATE))
+            .expectError(PriceOverlapException.class)
+            .verify();
+    }
+
+    @Nested
+    class ConstraintFirstModeTest {
+
+        @BeforeEach
+        void setUp() {
+            useCase = new ReactiveAddPriceToProductUseCase(
+                productRepository, priceRepository, overlapValidator, PriceHistoryFreezePolicy.disabled(), transactionalOperator, outbox, priceAddedPublisher, changePublisher, PriceWriteMode.CONSTRAINT_FIRST);
+        }
+
+        @Test
+        void givenValidPrice_whenAddingPrice_thenShouldInsertAndBumpVersion() {
+            // Given
+            Price savedPrice = Price.of(1L, PRODUCT_ID, VALUE, Currency.getInstance("EUR"), INIT_DATE, END_DATE);
+            when(priceRepository.save(any(Price.class))).thenReturn(Mono.just(savedPrice));
+            when(productRepository.incrementVersion(PRODUCT_ID)).thenReturn(Mono.just(true));
+
+            // When & Then
+            StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "EUR", INIT_DATE, END_DATE))
+                .expectNext(savedPrice)
+                .verifyComplete();
+            verify(transactionalOperator).transactional(any(Mono.class));
+            verifyNoInteractions(overlapValidator);
+        }
+
+        @Test
+        void givenNonExistingProduct_whenForeignKeyFires_thenShouldFailWithProductNotFound() {
+            // Given
+            when(priceRepository.save(any(Price.class))).thenReturn(Mono.error(new RepositoryConstraintViolationException(
+                "Data constraint violation while saving price", RepositoryConstraintViolationException.Kind.FOREIGN_KEY, null)));
+
+            // When & Then
+            StepVerifier.create(useCase.execute(PRODUCT_ID, VALUE, "EUR", INIT_DATE, END_DATE))
+                .expectError(ProductNotFoundException.class)
+                .verify();
+        }
+    }
+}
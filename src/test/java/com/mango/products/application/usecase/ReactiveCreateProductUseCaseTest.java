@@ -0,0 +1,73 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.exception.RepositoryConstraintViolationException;
+import com.mango.products.application.port.out.ProductChangePublisher;
+import com.mango.products.application.port.out.ReactiveChangeEventOutbox;
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.ProductAlreadyExistsException;
+import com.mango.products.domain.model.ChangeEvent;
+import com.mango.products.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateProductUseCaseTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Mock
+    private ReactiveChangeEventOutbox outbox;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private ProductChangePublisher changePublisher;
+
+    private ReactiveCreateProductUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        useCase = new ReactiveCreateProductUseCase(productRepository, outbox, transactionalOperator, changePublisher);
+    }
+
+    @Test
+    void givenValidProduct_whenCreating_thenShouldAppendEventInsideTransaction() {
+        // Given
+        Product savedProduct = Product.of(1L, "Product", "Description");
+        when(productRepository.save(any(Product.class))).thenReturn(Mono.just(savedProduct));
+        when(outbox.append(any(ChangeEvent.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.execute("Product", "Description"))
+            .expectNext(savedProduct)
+            .verifyComplete();
+        verify(outbox).append(ChangeEvent.productCreated(savedProduct));
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(changePublisher).productChanged(1L);
+    }
+
+    @Test
+    void givenDuplicateName_whenCreating_thenShouldFailWithoutAppendingEvent() {
+        // Given
+        when(productRepository.save(any(Product.class))).thenReturn(Mono.error(new RepositoryConstraintViolationException(
+            "Data constraint violation while saving product", RepositoryConstraintViolationException.Kind.UNIQUE, null)));
+
+        // When & Then
+        StepVerifier.create(useCase.execute("Product", "Description"))
+            .expectError(ProductAlreadyExistsException.class)
+            .verify();
+        verifyNoInteractions(outbox, changePublisher);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mango.products.application.usecase;
+
+import com.mango.products.application.port.out.ReactivePriceRepository;
+import com.mango.products.application.port.out.ReactiveProductRepository;
+import com.mango.products.domain.exception.ProductNotFoundException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetProductPricesUseCaseTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @Mock
+    private ReactivePriceRepository priceRepository;
+
+    @InjectMocks
+    private ReactiveGetProductPricesUseCase useCase;
+
+    @Test
+    void givenExistingProduct_whenGettingHistory_thenShouldCombineProductAndPrices() {
+        // Given
+        Long productId = 1L;
+        Product product = Product.of(productId, "Product", "Description");
+        Price price = Price.of(1L, productId, BigDecimal.valueOf(10.00), Currency.getInstance("EUR"),
+            LocalDate.of(2025, 1, 1), null);
+        when(productRepository.findById(productId)).thenReturn(Mono.just(product));
+        when(priceRepository.findByProductId(productId)).thenReturn(Flux.just(price));
+
+        // When & Then
+        StepVerifier.create(useCase.getHistory(productId))
+            .assertNext(history -> {
+                assertEquals(product, history.getProduct());
+                assertEquals(List.of(price), history.getPrices());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void givenNonExistingProduct_whenGettingHistory_thenShouldFailWithProductNotFound() {
+        // Given
+        Long productId = 999L;
+        when(productRepository.findById(productId)).thenReturn(Mono.empty());
+        when(priceRepository.findByProductId(productId)).thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.getHistory(productId))
+            .expectError(ProductNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void givenNoPriceOnDate_whenGettingCurrentPriceByCurrency_thenShouldCompleteEmpty() {
+        // Given
+        Long productId = 1L;
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        when(productRepository.findById(productId)).thenReturn(Mono.just(Product.of(productId, "Product", null)));
+        when(priceRepository.findByProductIdAndCurrencyAndDate(productId, "EUR", date)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.getCurrentPriceByCurrency(productId, "EUR", date))
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mango.products.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrozenPriceHistoryExceptionTest {
+
+    @Test
+    void givenFrozenInitDate_whenCreatingException_thenShouldMentionProductAndDates() {
+        // When
+        FrozenPriceHistoryException exception = new FrozenPriceHistoryException(
+            123L, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 5, 31));
+
+        // Then
+        assertInstanceOf(RuntimeException.class, exception);
+        String message = exception.getMessage();
+        assertTrue(message.contains("123"));
+        assertTrue(message.contains("2025-01-15"));
+        assertTrue(message.contains("2025-05-31"));
+        assertTrue(message.toLowerCase().contains("frozen"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.mango.products.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceImportConflictExceptionTest {
+
+    @Test
+    void givenRowCount_whenCreatingException_thenShouldBeRuntimeExceptionWithDescriptiveMessage() {
+        // Given
+        int rows = 250;
+
+        // When
+        PriceImportConflictException exception = new PriceImportConflictException(rows);
+
+        // Then
+        assertInstanceOf(RuntimeException.class, exception);
+
+        String message = exception.getMessage();
+        assertNotNull(message);
+        assertTrue(message.contains("250"));
+        assertTrue(message.toLowerCase().contains("no prices were imported"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.mango.products.domain.model;
+
+import com.mango.products.domain.exception.PriceOverlapException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceImportBatchTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private static Price price(Long productId, Currency currency, LocalDate initDate, LocalDate endDate) {
+        return Price.create(productId, BigDecimal.valueOf(10.00), currency, initDate, endDate);
+    }
+
+    @Test
+    void givenContiguousPricesInAnyOrder_whenAdding_thenShouldAcceptAllInArrivalOrder() {
+        // Given
+        PriceImportBatch batch = PriceImportBatch.startingFrom(List.of());
+        Price march = price(1L, EUR, LocalDate.of(2025, 3, 1), null);
+        Price january = price(1L, EUR, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        Price february = price(1L, EUR, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+
+        // When
+        batch.add(march);
+        batch.add(january);
+        batch.add(february);
+
+        // Then
+        List<Price> accepted = batch.getAccepted();
+        assertEquals(3, accepted.size());
+        assertSame(march, accepted.get(0));
+        assertSame(january, accepted.get(1));
+        assertSame(february, accepted.get(2));
+    }
+
+    @Test
+    void givenStoredOpenEndedPrice_whenAddingLaterPrice_thenShouldThrowException() {
+        // Given
+        Price stored = Price.of(1L, 1L, BigDecimal.valueOf(9.99), EUR, LocalDate.of(2025, 1, 1), null);
+        PriceImportBatch batch = PriceImportBatch.startingFrom(List.of(stored));
+
+        // When & Then
+        assertThrows(PriceOverlapException.class,
+            () -> batch.add(price(1L, EUR, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30))));
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void givenAcceptedPrice_whenAddingOverlappingPriceOfSameProductAndCurrency_thenShouldThrowException() {
+        // Given
+        PriceImportBatch batch = PriceImportBatch.startingFrom(List.of());
+        batch.add(price(1L, EUR, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 20)));
+
+        // When & Then
+        assertThrows(PriceOverlapException.class,
+            () -> batch.add(price(1L, EUR, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 10))));
+        assertThrows(PriceOverlapException.class,
+            () -> batch.add(price(1L, EUR, LocalDate.of(2025, 1, 20), null)));
+        assertEquals(1, batch.size());
+    }
+
+    @Test
+    void givenAcceptedPrice_whenAddingSamePeriodInOtherCurrencyOrProduct_thenShouldAcceptBoth() {
+        // Given
+        PriceImportBatch batch = PriceImportBatch.startingFrom(List.of());
+        batch.add(price(1L, EUR, LocalDate.of(2025, 1, 1), null));
+
+        // When
+        batch.add(price(1L, USD, LocalDate.of(2025, 1, 1), null));
+        batch.add(price(2L, EUR, LocalDate.of(2025, 1, 1), null));
+
+        // Then
+        assertEquals(3, batch.size());
+    }
+}
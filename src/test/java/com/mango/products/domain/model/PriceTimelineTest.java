@@ -0,0 +1,174 @@
+package com.mango.products.domain.model;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceTimelineTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private static Price price(long id, Currency currency, LocalDate initDate, LocalDate endDate) {
+        return Price.of(id, 1L, BigDecimal.valueOf(10.00), currency, initDate, endDate);
+    }
+
+    @Nested
+    class FactoryMethodsTest {
+
+        @Test
+        void givenUnsortedPrices_whenCreatingTimeline_thenShouldSortByInitDate() {
+            // Given
+            Price march = price(3L, EUR, LocalDate.of(2025, 3, 1), null);
+            Price january = price(1L, EUR, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+            Price february = price(2L, EUR, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+
+            // When
+            PriceTimeline timeline = PriceTimeline.of(Arrays.asList(march, january, february));
+
+            // Then
+            assertEquals(Arrays.asList(january, february, march), timeline.getPrices());
+            assertEquals(3, timeline.size());
+        }
+
+        @Test
+        void givenNoPrices_whenCreatingTimeline_thenShouldBeEmpty() {
+            // When
+            PriceTimeline timeline = PriceTimeline.of(List.of());
+
+            // Then
+            assertTrue(timeline.isEmpty());
+            assertTrue(timeline.findActiveOn(LocalDate.of(2025, 1, 1)).isEmpty());
+        }
+
+        @Test
+        void givenOverlappingPrices_whenCreatingTimeline_thenShouldThrowException() {
+            // Given
+            Price openEnded = price(1L, EUR, LocalDate.of(2025, 1, 1), null);
+            Price later = price(2L, EUR, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> PriceTimeline.of(Arrays.asList(openEnded, later)));
+        }
+
+        @Test
+        void givenMixedCurrencies_whenCreatingTimeline_thenShouldThrowException() {
+            // Given
+            Price eur = price(1L, EUR, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+            Price usd = price(2L, USD, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> PriceTimeline.of(Arrays.asList(eur, usd)));
+        }
+    }
+
+    @Nested
+    class FindOverlappingTest {
+
+        private final Price january = price(1L, EUR, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        private final Price march = price(2L, EUR, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        private final Price fromMay = price(3L, EUR, LocalDate.of(2025, 5, 1), null);
+        private final PriceTimeline timeline = PriceTimeline.of(Arrays.asList(january, march, fromMay));
+
+        @Test
+        void givenPriceInGap_whenFindingOverlap_thenShouldReturnEmpty() {
+            // Given
+            Price february = Price.create(1L, BigDecimal.ONE, EUR, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+
+            // When & Then
+            assertTrue(timeline.findOverlapping(february).isEmpty());
+        }
+
+        @Test
+        void givenPriceSharingLastDay_whenFindingOverlap_thenShouldReturnNeighbour() {
+            // Given
+            Price fromEndOfMarch = Price.create(1L, BigDecimal.ONE, EUR, LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 10));
+
+            // When & Then
+            assertEquals(Optional.of(march), timeline.findOverlapping(fromEndOfMarch));
+        }
+
+        @Test
+        void givenPriceSpanningSeveralPeriods_whenFindingOverlap_thenShouldReturnConflict() {
+            // Given
+            Price wide = Price.create(1L, BigDecimal.ONE, EUR, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 4, 15));
+
+            // When & Then
+            assertTrue(timeline.findOverlapping(wide).isPresent());
+        }
+
+        @Test
+        void givenOpenEndedPriceAfterOpenEnded_whenFindingOverlap_thenShouldReturnOpenEnded() {
+            // Given
+            Price fromJune = Price.create(1L, BigDecimal.ONE, EUR, LocalDate.of(2025, 6, 1), null);
+
+            // When & Then
+            assertEquals(Optional.of(fromMay), timeline.findOverlapping(fromJune));
+        }
+
+        @Test
+        void givenPriceBeforeAllPeriods_whenFindingOverlap_thenShouldReturnEmpty() {
+            // Given
+            Price december = Price.create(1L, BigDecimal.ONE, EUR, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31));
+
+            // When & Then
+            assertTrue(timeline.findOverlapping(december).isEmpty());
+        }
+
+        @Test
+        void givenDifferentCurrency_whenFindingOverlap_thenShouldReturnEmpty() {
+            // Given
+            Price usd = Price.create(1L, BigDecimal.ONE, USD, LocalDate.of(2025, 1, 1), null);
+
+            // When & Then
+            assertTrue(timeline.findOverlapping(usd).isEmpty());
+        }
+    }
+
+    @Nested
+    class FindActiveOnTest {
+
+        @Test
+        void givenDatesOnBoundaries_whenFindingActivePrice_thenShouldIncludeBothEnds() {
+            // Given
+            Price january = price(1L, EUR, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+            Price fromMarch = price(2L, EUR, LocalDate.of(2025, 3, 1), null);
+            PriceTimeline timeline = PriceTimeline.of(Arrays.asList(january, fromMarch));
+
+            // When & Then
+            assertEquals(Optional.of(january), timeline.findActiveOn(LocalDate.of(2025, 1, 1)));
+            assertEquals(Optional.of(january), timeline.findActiveOn(LocalDate.of(2025, 1, 31)));
+            assertTrue(timeline.findActiveOn(LocalDate.of(2025, 2, 15)).isEmpty());
+            assertEquals(Optional.of(fromMarch), timeline.findActiveOn(LocalDate.of(2030, 1, 1)));
+            assertTrue(timeline.findActiveOn(LocalDate.of(2024, 12, 31)).isEmpty());
+        }
+
+        @Test
+        void givenLongDailyHistory_whenFindingActivePrice_thenShouldReturnThatDay() {
+            // Given: one price per day for ten years
+            List<Price> daily = new ArrayList<>();
+            LocalDate start = LocalDate.of(2015, 1, 1);
+            for (int day = 0; day < 3650; day++) {
+                LocalDate date = start.plusDays(day);
+                daily.add(price(day + 1L, EUR, date, date));
+            }
+            PriceTimeline timeline = PriceTimeline.of(daily);
+
+            // When
+            Optional<Price> result = timeline.findActiveOn(start.plusDays(1234));
+
+            // Then
+            assertTrue(result.isPresent());
+            assertEquals(1235L, result.get().getId());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mango.products.domain.service;
+
+import com.mango.products.domain.exception.FrozenPriceHistoryException;
+import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceQueryPeriod;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceHistoryFreezePolicyTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final PriceHistoryFreezePolicy policy = new PriceHistoryFreezePolicy(true, Period.ofDays(30), CLOCK);
+
+    @Test
+    void givenEnabledPolicy_whenClassifyingDates_thenShouldSplitHistoricalCurrentAndFuture() {
+        // When & Then
+        assertEquals(Optional.of(LocalDate.of(2025, 5, 31)), policy.frozenBefore());
+        assertEquals(PriceQueryPeriod.HISTORICAL, policy.classify(LocalDate.of(2025, 5, 30)));
+        assertEquals(PriceQueryPeriod.CURRENT, policy.classify(LocalDate.of(2025, 5, 31)));
+        assertEquals(PriceQueryPeriod.CURRENT, policy.classify(TODAY));
+        assertEquals(PriceQueryPeriod.FUTURE, policy.classify(TODAY.plusDays(1)));
+    }
+
+    @Test
+    void givenDisabledPolicy_whenClassifyingPastDate_thenShouldNeverBeHistorical() {
+        // Given
+        PriceHistoryFreezePolicy disabled = new PriceHistoryFreezePolicy(false, Period.ofDays(30), CLOCK);
+
+        // When & Then
+        assertEquals(PriceQueryPeriod.CURRENT, disabled.classify(LocalDate.of(2020, 1, 1)));
+        assertTrue(disabled.frozenBefore().isEmpty());
+        assertDoesNotThrow(() -> disabled.validate(price(LocalDate.of(2020, 1, 1))));
+    }
+
+    @Test
+    void givenPriceStartingBeforeBoundary_whenValidating_thenShouldThrow() {
+        // When & Then
+        FrozenPriceHistoryException exception = assertThrows(FrozenPriceHistoryException.class,
+            () -> policy.validate(price(LocalDate.of(2025, 5, 30))));
+        assertTrue(exception.getMessage().contains("2025-05-31"));
+    }
+
+    @Test
+    void givenPriceStartingOnBoundary_whenValidating_thenShouldAccept() {
+        // When & Then
+        assertDoesNotThrow(() -> policy.validate(price(LocalDate.of(2025, 5, 31))));
+    }
+
+    private static Price price(LocalDate initDate) {
+        return Price.create(1L, BigDecimal.valueOf(9.99), Currency.getInstance("EUR"), initDate, null);
+    }
+}
@@ -2,6 +2,7 @@ package com.mango.products.domain.service;
 
 import com.mango.products.domain.exception.PriceOverlapException;
 import com.mango.products.domain.model.Price;
+import com.mango.products.domain.model.PriceTimeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -117,6 +118,22 @@ class PriceOverlapValidatorTest {
         }
 
 
+        @Test
+        void givenStoredPricesAlreadyOverlapping_whenValidatingNonConflictingPrice_thenShouldNotThrowException() {
+            // Given: inconsistent stored data is not the new price's fault
+            Currency currency = Currency.getInstance("EUR");
+            List<Price> existingPrices = Arrays.asList(
+                Price.of(1L, 1L, BigDecimal.valueOf(10.00), currency, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)),
+                Price.of(2L, 1L, BigDecimal.valueOf(11.00), currency, LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 15))
+            );
+
+            Price newPrice = Price.create(1L, BigDecimal.valueOf(12.00), currency,
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+            // When & Then
+            assertDoesNotThrow(() -> validator.validate(newPrice, existingPrices));
+        }
+
         @Test
         void givenOverlapWithMultiplePrices_whenValidating_thenShouldThrowException() {
             // Given: New price overlaps with one of several existing prices
@@ -197,4 +214,39 @@ class PriceOverlapValidatorTest {
             assertDoesNotThrow(() -> validator.validate(newPrice, existingPrices));
         }
     }
+
+    @Nested
+    class TimelineScenariosTest {
+
+        @Test
+        void givenTimelineWithGap_whenValidatingPriceInGap_thenShouldNotThrowException() {
+            // Given
+            Currency currency = Currency.getInstance("EUR");
+            PriceTimeline timeline = PriceTimeline.of(Arrays.asList(
+                Price.of(1L, 1L, BigDecimal.valueOf(10.00), currency, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31)),
+                Price.of(2L, 1L, BigDecimal.valueOf(12.00), currency, LocalDate.of(2025, 3, 1), null)
+            ));
+
+            Price newPrice = Price.create(1L, BigDecimal.valueOf(11.00), currency,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+
+            // When & Then
+            assertDoesNotThrow(() -> validator.validateAgainst(newPrice, timeline));
+        }
+
+        @Test
+        void givenOpenEndedTimeline_whenValidatingLaterPrice_thenShouldThrowException() {
+            // Given
+            Currency currency = Currency.getInstance("EUR");
+            PriceTimeline timeline = PriceTimeline.of(Collections.singletonList(
+                Price.of(1L, 1L, BigDecimal.valueOf(10.00), currency, LocalDate.of(2025, 1, 1), null)
+            ));
+
+            Price newPrice = Price.create(1L, BigDecimal.valueOf(12.00), currency,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+
+            // When & Then
+            assertThrows(PriceOverlapException.class, () -> validator.validateAgainst(newPrice, timeline));
+        }
+    }
 }
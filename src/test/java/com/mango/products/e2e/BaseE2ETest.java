@@ -1,6 +1,9 @@
 package com.mango.products.e2e;
 
 import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ValidatableResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,9 +12,19 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
 import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.MountableFile;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+import java.time.Duration;
+
+import static io.restassured.RestAssured.given;
+
+// Server-Timing carries the statement counts checked by SqlStatementBudget
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "products.observability.server-timing.enabled=true")
 public abstract class BaseE2ETest {
 
     @LocalServerPort
@@ -20,23 +33,62 @@ public abstract class BaseE2ETest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    private static final String POSTGRES_IMAGE = "postgres:17-alpine";
+    private static final String PRIMARY_ALIAS = "primary";
+    private static final Network network = Network.newNetwork();
+
     private static final PostgreSQLContainer<?> postgres;
+    private static GenericContainer<?> replica;
 
     static {
-        postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+        // Also accepts streaming replication connections, see startReplica()
+        postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE)
                 .withDatabaseName("testdb")
                 .withUsername("test")
-                .withPassword("test");
+                .withPassword("test")
+                .withNetwork(network)
+                .withNetworkAliases(PRIMARY_ALIAS)
+                .withCopyFileToContainer(
+                        MountableFile.forClasspathResource("testcontainers/enable-replication.sh"),
+                        "/docker-entrypoint-initdb.d/enable-replication.sh");
         postgres.start();
     }
 
+    /**
+     * Starts (once) a hot standby streaming from the shared primary and returns its JDBC URL.
+     */
+    protected static synchronized String startReplica() {
+        if (replica == null) {
+            replica = new GenericContainer<>(POSTGRES_IMAGE)
+                    .withNetwork(network)
+                    .withEnv("PGPASSWORD", postgres.getPassword())
+                    .withExposedPorts(PostgreSQLContainer.POSTGRESQL_PORT)
+                    .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+                    .withCommand("sh", "-c",
+                            "pg_basebackup -h " + PRIMARY_ALIAS + " -U " + postgres.getUsername() +
+                            " -D /tmp/replica -R -X stream && chmod 700 /tmp/replica && exec postgres -D /tmp/replica")
+                    .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                            .withStartupTimeout(Duration.ofMinutes(2)));
+            replica.start();
+        }
+        return "jdbc:postgresql://" + replica.getHost() + ":" + replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                + "/" + postgres.getDatabaseName();
+    }
+
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName());
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
         registry.add("spring.flyway.enabled", () -> "true");
         registry.add("spring.flyway.clean-disabled", () -> "false");
+        // Statement counts are asserted by some tests; keep the per-session summary out of the logs
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener", () -> "WARN");
     }
 
     @BeforeEach
@@ -47,10 +99,82 @@ public abstract class BaseE2ETest {
 
     @AfterEach
     void cleanUpDatabase() {
+        jdbcTemplate.execute("DELETE FROM outbox_events");
         jdbcTemplate.execute("DELETE FROM product_prices");
         jdbcTemplate.execute("DELETE FROM products");
         jdbcTemplate.execute("ALTER SEQUENCE products_id_seq RESTART WITH 1");
         jdbcTemplate.execute("ALTER SEQUENCE product_prices_id_seq RESTART WITH 1");
     }
-}
 
+    protected Integer createProduct(String name) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(String.format("{\"name\": \"%s\"}", name))
+            .when()
+                .post("/products")
+            .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    /**
+     * Adds a price that is expected to be accepted.
+     */
+    protected void addPrice(Integer productId, String body) {
+        postPrice(productId, body).statusCode(201);
+    }
+
+    /**
+     * Posts a price and leaves the outcome to the caller.
+     */
+    protected ValidatableResponse postPrice(Integer productId, String body) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(body)
+            .when()
+                .post("/products/{id}/prices", productId)
+            .then();
+    }
+
+    /**
+     * Skips the change feed events other tests sharing the database may have left behind.
+     *
+     * @return the offset of the last published event
+     */
+    protected long drainChanges(long offset) {
+        JsonPath feed = readChanges(offset);
+        while (!feed.getList("events").isEmpty()) {
+            offset = feed.getLong("nextOffset");
+            feed = readChanges(offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Polls the change feed until the relay has published at least the expected number of events.
+     */
+    protected JsonPath awaitChanges(long after, int expected) throws InterruptedException {
+        JsonPath feed = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            feed = readChanges(after);
+            if (feed.getList("events").size() >= expected) {
+                return feed;
+            }
+            Thread.sleep(100);
+        }
+        return feed;
+    }
+
+    private JsonPath readChanges(long after) {
+        return given()
+                .queryParam("after", after)
+                .queryParam("limit", 1000)
+            .when()
+                .get("/changes")
+            .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+    }
+}
@@ -0,0 +1,58 @@
+package com.mango.products.e2e;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestPropertySource(properties = {
+    "products.cache.prices.enabled=true",
+    "products.cache.invalidation.enabled=true",
+    "products.cache.invalidation.max-staleness=1s"
+})
+class CacheInvalidationE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenCachedPrices_whenAnotherInstanceAddsPriceAndNotifies_thenShouldServeItWithoutRestart() throws InterruptedException {
+        // Given: the product's price timeline is cached on this instance, without USD
+        Integer productId = createProduct("Invalidated Elsewhere");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        assertEquals(404, usdPriceStatus(productId));
+
+        // When: another instance writes straight to the database and publishes the change
+        jdbcTemplate.update(
+            "INSERT INTO product_prices (product_id, value, currency, init_date, end_date) VALUES (?, 89.99, 'USD', '2025-01-01', NULL)",
+            productId);
+        jdbcTemplate.queryForList("SELECT pg_notify('product_changes', ?)", productId.toString());
+
+        // Then
+        assertEquals(200, awaitUsdPriceStatus(productId, 200));
+    }
+
+    private int awaitUsdPriceStatus(Integer productId, int expected) throws InterruptedException {
+        int status = usdPriceStatus(productId);
+        for (int attempt = 0; attempt < 50 && status != expected; attempt++) {
+            Thread.sleep(100);
+            status = usdPriceStatus(productId);
+        }
+        return status;
+    }
+
+    private int usdPriceStatus(Integer productId) {
+        return given()
+            .queryParam("date", "2025-01-15")
+            .queryParam("currency", "USD")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .extract().statusCode();
+    }
+}
@@ -0,0 +1,73 @@
+package com.mango.products.e2e;
+
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+    "products.outbox.enabled=true",
+    "products.outbox.relay.interval=100ms"
+})
+class ChangeFeedE2ETest extends BaseE2ETest {
+
+    @Test
+    void givenProductAndPriceChanges_whenReadingFeed_thenShouldReturnThemInOrderOnce() throws InterruptedException {
+        // Given
+        long start = drainChanges(0);
+
+        Integer productId = createProduct("Feed Product");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        given()
+            .contentType(ContentType.JSON)
+            .body(String.format("""
+                {"prices": [{"productId": %d, "value": 19.99, "currency": "USD", "initDate": "2025-01-01", "endDate": null}]}
+                """, productId))
+            .post("/prices/import")
+            .then().statusCode(200).body("imported", equalTo(1));
+
+        // When
+        JsonPath feed = awaitChanges(start, 3);
+
+        // Then
+        List<Map<String, Object>> events = feed.getList("events");
+        assertEquals(List.of("PRODUCT_CREATED", "PRICE_ADDED", "PRICES_IMPORTED"),
+            events.stream().map(event -> event.get("type")).toList());
+        assertTrue(events.stream().allMatch(event -> productId.equals(event.get("productId"))));
+        assertEquals("Feed Product", feed.getString("events[0].product.name"));
+        assertEquals("EUR", feed.getString("events[1].price.currency"));
+        long first = feed.getLong("events[0].offset");
+        long last = feed.getLong("events[2].offset");
+        assertTrue(first > start && first < feed.getLong("events[1].offset") && last > feed.getLong("events[1].offset"));
+        assertEquals(last, feed.getLong("nextOffset"));
+
+        given()
+            .queryParam("after", last)
+        .when()
+            .get("/changes")
+        .then()
+            .statusCode(200)
+            .body("events", empty())
+            .body("nextOffset", equalTo((int) last));
+    }
+
+    @Test
+    void givenLimitOutOfRange_whenReadingFeed_thenShouldReturn400() {
+        // When & Then
+        given()
+            .queryParam("limit", 5000)
+        .when()
+            .get("/changes")
+        .then()
+            .statusCode(400);
+    }
+}
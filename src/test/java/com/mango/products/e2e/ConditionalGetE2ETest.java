@@ -0,0 +1,102 @@
+package com.mango.products.e2e;
+
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ConditionalGetE2ETest extends BaseE2ETest {
+
+    @Test
+    void givenUnchangedProduct_whenGettingWithItsETag_thenShouldReturn304WithoutBody() {
+        // Given
+        Integer productId = createProduct("Conditional Product");
+        String eTag = given().get("/products/{id}", productId)
+            .then().statusCode(200).header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        // When & Then
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get("/products/{id}", productId)
+        .then()
+            .statusCode(304)
+            .header("ETag", equalTo(eTag))
+            .body(emptyString());
+    }
+
+    @Test
+    void givenPriceAddedAfterETag_whenGettingPricesWithOldETag_thenShouldReturnNewRepresentation() {
+        // Given
+        Integer productId = createProduct("Conditional Prices");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-01-31"}
+            """);
+        String eTag = given().get("/products/{id}/prices", productId)
+            .then().statusCode(200)
+            .extract().header("ETag");
+
+        given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(304);
+
+        addPrice(productId, """
+            {"value": 89.99, "currency": "EUR", "initDate": "2025-02-01", "endDate": null}
+            """);
+
+        // When & Then
+        String newETag = given()
+            .header("If-None-Match", eTag)
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .body("prices", hasSize(2))
+            .extract().header("ETag");
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    void givenImportedPrices_whenGettingPricesOnDateWithOldETag_thenShouldReturn200() {
+        // Given
+        Integer productId = createProduct("Conditional Import");
+        String productETag = given().get("/products/{id}", productId).then().extract().header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(String.format("""
+                {"prices": [{"productId": %d, "value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}]}
+                """, productId))
+            .post("/prices/import")
+            .then().statusCode(200).body("imported", equalTo(1));
+
+        // When & Then
+        given()
+            .header("If-None-Match", productETag)
+            .queryParam("date", "2025-01-15")
+            .queryParam("currency", "EUR")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(productETag)))
+            .body("value", equalTo(99.99f));
+    }
+
+    @Test
+    void givenUnknownProduct_whenGettingWithETag_thenShouldReturn404() {
+        // When & Then
+        given()
+            .header("If-None-Match", "\"1\"")
+        .when()
+            .get("/products/{id}", 999999)
+        .then()
+            .statusCode(404);
+    }
+}
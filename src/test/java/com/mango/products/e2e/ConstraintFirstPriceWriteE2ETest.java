@@ -0,0 +1,68 @@
+package com.mango.products.e2e;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestPropertySource(properties = "products.prices.write-mode=CONSTRAINT_FIRST")
+class ConstraintFirstPriceWriteE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void givenExistingProduct_whenAddingPrice_thenShouldRunInsertAndVersionUpdateOnly() {
+        // Given
+        Integer productId = createProduct("Constraint First Product");
+        statistics.clear();
+
+        // When
+        postPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-01-31"}
+            """)
+            .statusCode(201)
+            .body("id", notNullValue());
+
+        // Then: the INSERT and the product version UPDATE, no pre-reads
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenOverlappingPrice_whenAddingPrice_thenShouldReturn409FromExclusionConstraint() {
+        // Given
+        Integer productId = createProduct("Constraint First Overlap");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+
+        // When & Then
+        postPrice(productId, """
+            {"value": 89.99, "currency": "EUR", "initDate": "2025-06-01", "endDate": "2025-06-30"}
+            """)
+            .statusCode(409)
+            .body("message", containsString("already exists"));
+    }
+
+    @Test
+    void givenNonExistingProduct_whenAddingPrice_thenShouldReturn404FromForeignKey() {
+        postPrice(999, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """)
+            .statusCode(404)
+            .body("message", containsString("999"));
+    }
+}
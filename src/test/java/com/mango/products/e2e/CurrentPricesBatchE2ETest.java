@@ -0,0 +1,79 @@
+package com.mango.products.e2e;
+
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+class CurrentPricesBatchE2ETest extends BaseE2ETest {
+
+    @Test
+    void givenProductsWithAndWithoutPrices_whenGettingCurrentPrices_thenShouldReportEachProduct() {
+        // Given
+        Integer priced = createProduct("Batch Priced Product");
+        Integer unpriced = createProduct("Batch Unpriced Product");
+        addPrice(priced, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        addPrice(priced, """
+            {"value": 109.99, "currency": "USD", "initDate": "2025-01-01", "endDate": null}
+            """);
+
+        // When & Then
+        given()
+            .queryParam("productIds", priced + "," + unpriced + ",999")
+            .queryParam("date", "2025-03-15")
+        .when()
+            .get("/prices/current")
+        .then()
+            .statusCode(200)
+            .body("date", equalTo("2025-03-15"))
+            .body("products." + priced + ".status", equalTo("FOUND"))
+            .body("products." + priced + ".prices.currency", containsInAnyOrder("EUR", "USD"))
+            .body("products." + unpriced + ".status", equalTo("PRICE_NOT_FOUND"))
+            .body("products." + unpriced + ".prices", empty())
+            .body("products.999.status", equalTo("PRODUCT_NOT_FOUND"));
+    }
+
+    @Test
+    void givenCurrencyFilter_whenGettingCurrentPrices_thenShouldReturnOnlyThatCurrency() {
+        // Given
+        Integer productId = createProduct("Batch Currency Product");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        addPrice(productId, """
+            {"value": 109.99, "currency": "USD", "initDate": "2025-01-01", "endDate": null}
+            """);
+
+        // When & Then
+        given()
+            .queryParam("productIds", productId)
+            .queryParam("date", "2025-03-15")
+            .queryParam("currency", "USD")
+        .when()
+            .get("/prices/current")
+        .then()
+            .statusCode(200)
+            .body("currency", equalTo("USD"))
+            .body("products." + productId + ".prices", hasSize(1))
+            .body("products." + productId + ".prices[0].value", equalTo(109.99f));
+    }
+
+    @Test
+    void givenTooManyProductIds_whenGettingCurrentPrices_thenShouldReturn400() {
+        // Given
+        StringBuilder ids = new StringBuilder("1");
+        for (int i = 2; i <= 201; i++) {
+            ids.append(',').append(i);
+        }
+
+        // When & Then
+        given()
+            .queryParam("productIds", ids.toString())
+        .when()
+            .get("/prices/current")
+        .then()
+            .statusCode(400);
+    }
+}
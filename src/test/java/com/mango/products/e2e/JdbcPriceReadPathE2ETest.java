@@ -0,0 +1,100 @@
+package com.mango.products.e2e;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.domain.model.Price;
+import com.mango.products.infrastructure.persistence.adapter.JdbcPriceReadAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "products.prices.jdbc-reads.enabled=true")
+class JdbcPriceReadPathE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productId = jdbcTemplate.queryForObject(
+            "INSERT INTO products (name) VALUES ('Jdbc Read Product') RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO product_prices (product_id, value, currency, init_date, end_date) VALUES " +
+            "(?, 10.00, 'EUR', DATE '2025-01-01', DATE '2025-01-31'), " +
+            "(?, 12.50, 'EUR', DATE '2025-02-01', NULL), " +
+            "(?, 11.00, 'USD', DATE '2025-01-01', NULL)", productId, productId, productId);
+    }
+
+    @Test
+    void givenJdbcReadsEnabled_whenReadingPrices_thenShouldMapRowsWithoutLoadingEntities() {
+        // Given
+        assertInstanceOf(JdbcPriceReadAdapter.class, priceRepository);
+        statistics.clear();
+
+        // When
+        List<Price> all = read(() -> priceRepository.findByProductId(productId));
+        List<Price> eur = read(() -> priceRepository.findByProductIdAndCurrency(productId, "EUR"));
+        List<Price> onJanuary = read(() -> priceRepository.findByProductIdAndDate(productId, LocalDate.of(2025, 1, 15)));
+        Optional<Price> eurOnMarch = read(() -> priceRepository.findByProductIdAndCurrencyAndDate(productId, "EUR", LocalDate.of(2025, 3, 1)));
+        Optional<Price> gbpOnMarch = read(() -> priceRepository.findByProductIdAndCurrencyAndDate(productId, "GBP", LocalDate.of(2025, 3, 1)));
+
+        // Then
+        assertEquals(3, all.size());
+        assertEquals(List.of(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)),
+            eur.stream().map(Price::getInitDate).toList());
+        assertEquals(2, onJanuary.size());
+        assertTrue(eurOnMarch.isPresent());
+        assertEquals(0, new BigDecimal("12.50").compareTo(eurOnMarch.get().getValue()));
+        assertNull(eurOnMarch.get().getEndDate());
+        assertEquals(productId, eurOnMarch.get().getProductId());
+        assertTrue(gbpOnMarch.isEmpty());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void givenJdbcReadsEnabled_whenQueryingCurrentPriceThroughApi_thenShouldReturnSameContract() {
+        given()
+            .queryParam("date", "2025-03-01")
+            .queryParam("currency", "EUR")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .body("value", equalTo(12.5f))
+            .body("currency", equalTo("EUR"));
+    }
+
+    private <T> T read(Supplier<T> query) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> query.get());
+    }
+}
@@ -0,0 +1,32 @@
+package com.mango.products.e2e;
+
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+class MetricsE2ETest extends BaseE2ETest {
+
+    @Test
+    void givenServedRequests_whenScrapingPrometheus_thenShouldExposeUseCaseRepositoryAndErrorMetrics() {
+        // Given
+        Integer productId = createProduct("Metrics Product");
+        given().when().get("/products/{id}", productId).then().statusCode(200);
+        given().when().get("/products/{id}", 999).then().statusCode(404);
+
+        // When & Then
+        given()
+        .when()
+            .get("/actuator/prometheus")
+        .then()
+            .statusCode(200)
+            .body(allOf(
+                containsString("products_usecase_seconds_bucket{class=\"com.mango.products.application.usecase.GetProductByIdUseCase\""),
+                containsString("products_usecase_seconds_count{class=\"com.mango.products.application.usecase.CreateProductUseCase\""),
+                containsString("products_repository_seconds_bucket{class=\"com.mango.products.infrastructure.persistence.adapter.ProductRepositoryAdapter\""),
+                containsString("products_errors_total{exception=\"ProductNotFoundException\",status=\"404\"}"),
+                containsString("http_server_requests_seconds_bucket"),
+                containsString("products_request_sql_statements_count{method=\"GET\",uri=\"/products/{id}\"}")
+            ));
+    }
+}
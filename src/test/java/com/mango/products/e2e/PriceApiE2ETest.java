@@ -3,6 +3,8 @@ package com.mango.products.e2e;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.Test;
 
+import static com.mango.products.e2e.SqlStatementBudget.SERVER_TIMING;
+import static com.mango.products.e2e.SqlStatementBudget.withinStatementBudget;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 
@@ -30,6 +32,8 @@ class PriceApiE2ETest extends BaseE2ETest {
             .post("/products/{id}/prices", productId)
         .then()
             .statusCode(201)
+            // Product version bump (also the existence check), same-currency prices for the overlap check, insert
+            .header(SERVER_TIMING, withinStatementBudget(3))
             .body("id", notNullValue())
             .body("value", equalTo(99.99f))
             .body("currency", equalTo("EUR"))
@@ -124,6 +128,8 @@ class PriceApiE2ETest extends BaseE2ETest {
             .get("/products/{id}/prices", productId)
         .then()
             .statusCode(200)
+            // Product and prices in a single query, whatever the number of prices
+            .header(SERVER_TIMING, withinStatementBudget(1))
             .body("prices", hasSize(2));
     }
 
@@ -146,6 +152,7 @@ class PriceApiE2ETest extends BaseE2ETest {
             .get("/products/{id}/prices", productId)
         .then()
             .statusCode(200)
+            .header(SERVER_TIMING, withinStatementBudget(1))
             .body("value", notNullValue())
             .body("value", equalTo(99.99f));
     }
@@ -0,0 +1,87 @@
+package com.mango.products.e2e;
+
+import com.mango.products.infrastructure.persistence.repository.JpaPriceRepository;
+import com.mango.products.infrastructure.persistence.repository.JpaProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Checks the plans of the point-in-time queries on a million-row table: they must go through
+ * one of the GiST period indexes instead of scanning the product history.
+ */
+class PriceDateLookupIndexE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void loadMillionPrices() {
+        // 10 products x 2 currencies x 50,000 consecutive one-day prices
+        jdbcTemplate.update("INSERT INTO products (name) SELECT 'Index Product ' || i FROM generate_series(1, 10) AS i");
+        jdbcTemplate.update("INSERT INTO product_prices (product_id, value, currency, init_date, end_date) " +
+            "SELECT p.id, 10.00, c.currency, DATE '1900-01-01' + d, DATE '1900-01-01' + d " +
+            "FROM products p " +
+            "CROSS JOIN (VALUES ('EUR'), ('USD')) AS c(currency) " +
+            "CROSS JOIN generate_series(0, 49999) AS d");
+        jdbcTemplate.execute("ANALYZE product_prices");
+        productId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Long.class);
+    }
+
+    @Test
+    void givenMillionPrices_whenExplainingLookupByDate_thenShouldUseGistPeriodIndex() {
+        // When
+        String plan = explain(JpaPriceRepository.ACTIVE_ON_DATE_SQL, new MapSqlParameterSource()
+            .addValue("productId", productId)
+            .addValue("date", LocalDate.of(1990, 6, 15)));
+
+        // Then
+        assertThat(plan, anyOf(containsString("ix_product_period"), containsString("ux_product_period_currency")));
+        assertThat(plan, not(containsString("Seq Scan")));
+    }
+
+    @Test
+    void givenMillionPrices_whenExplainingLookupByCurrencyAndDate_thenShouldUseGistPeriodIndex() {
+        // When
+        String plan = explain(JpaPriceRepository.ACTIVE_ON_DATE_BY_CURRENCY_SQL, new MapSqlParameterSource()
+            .addValue("productId", productId)
+            .addValue("currency", "EUR")
+            .addValue("date", LocalDate.of(1990, 6, 15)));
+
+        // Then
+        assertThat(plan, anyOf(containsString("ux_product_period_currency"), containsString("ix_product_period")));
+        assertThat(plan, not(containsString("Seq Scan")));
+    }
+
+    @Test
+    void givenMillionPrices_whenExplainingProductWithPricesOnDate_thenShouldUseGistPeriodIndex() {
+        // When
+        String plan = explain(JpaProductRepository.WITH_PRICES_ON_DATE_SQL, new MapSqlParameterSource()
+            .addValue("productId", productId)
+            .addValue("date", LocalDate.of(1990, 6, 15)));
+
+        // Then
+        assertThat(plan, anyOf(containsString("ix_product_period"), containsString("ux_product_period_currency")));
+        // The products side is a primary key lookup on a ten-row table, which may well be scanned
+        assertThat(plan, not(containsString("Seq Scan on product_prices")));
+    }
+
+    private String explain(String sql, MapSqlParameterSource params) {
+        List<String> lines = namedParameterJdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class);
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mango.products.e2e;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriceExportE2ETest extends BaseE2ETest {
+
+    @Test
+    void givenProductWithPrices_whenExporting_thenShouldStreamOnePriceResponsePerLine() {
+        // Given
+        Integer productId = createProduct("Export Test Product");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-01-31"}
+            """);
+        addPrice(productId, """
+            {"value": 89.99, "currency": "EUR", "initDate": "2025-02-01", "endDate": null}
+            """);
+
+        // When
+        String body = given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("/products/{id}/prices/export", productId)
+        .then()
+            .statusCode(200)
+            .contentType(startsWith("application/x-ndjson"))
+            .extract()
+            .asString();
+
+        // Then: newest first, one JSON document per line
+        List<String> lines = Arrays.asList(body.strip().split("\n"));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"initDate\":\"2025-02-01\""));
+        assertTrue(lines.get(1).contains("\"initDate\":\"2025-01-01\""));
+    }
+
+    @Test
+    void givenNonExistingProduct_whenExporting_thenShouldReturn404() {
+        given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("/products/{id}/prices/export", 999)
+        .then()
+            .statusCode(404)
+            .contentType(startsWith("application/json"))
+            .body("message", containsString("999"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.mango.products.e2e;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@TestPropertySource(properties = {
+    "products.prices.history-freeze.enabled=true",
+    "products.prices.history-freeze.after=P30D",
+    "products.prices.history-freeze.cache-max-age=365d"
+})
+class PriceHistoryFreezeE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenFrozenDate_whenGettingPriceOnIt_thenShouldBeImmutable() {
+        // Given: a price loaded before the freeze, straight into the table
+        Integer productId = createProduct("Frozen Lookup");
+        LocalDate frozenDate = LocalDate.now().minusDays(60);
+        jdbcTemplate.update(
+            "INSERT INTO product_prices (product_id, value, currency, init_date, end_date) VALUES (?, 99.99, 'EUR', ?, NULL)",
+            productId, frozenDate.minusDays(10));
+
+        // When & Then
+        given()
+            .queryParam("date", frozenDate.toString())
+            .queryParam("currency", "EUR")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .header("Cache-Control", allOf(containsString("max-age=31536000"), containsString("public"),
+                containsString("immutable")))
+            .body("value", equalTo(99.99f));
+    }
+
+    @Test
+    void givenCurrentOrFutureDate_whenGettingPrices_thenShouldRequireRevalidation() {
+        // Given
+        Integer productId = createProduct("Current Lookup");
+        addPrice(productId, String.format("""
+            {"value": 49.99, "currency": "EUR", "initDate": "%s", "endDate": null}
+            """, LocalDate.now().minusDays(5)));
+
+        // When & Then
+        for (LocalDate date : new LocalDate[] {LocalDate.now(), LocalDate.now().plusDays(30)}) {
+            given()
+                .queryParam("date", date.toString())
+            .when()
+                .get("/products/{id}/prices", productId)
+            .then()
+                .statusCode(200)
+                .header("Cache-Control", equalTo("no-cache"));
+        }
+    }
+
+    @Test
+    void givenPriceStartingInFrozenHistory_whenAddingPrice_thenShouldReturn409() {
+        // Given
+        Integer productId = createProduct("Frozen Write");
+
+        // When & Then
+        postPrice(productId, String.format("""
+            {"value": 49.99, "currency": "EUR", "initDate": "%s", "endDate": null}
+            """, LocalDate.now().minusDays(31)))
+            .statusCode(409)
+            .body("message", containsString("frozen"));
+    }
+}
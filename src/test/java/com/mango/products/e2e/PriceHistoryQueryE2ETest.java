@@ -0,0 +1,168 @@
+package com.mango.products.e2e;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PriceHistoryQueryE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void givenProductWithPrices_whenGettingHistory_thenShouldRunSingleStatement() {
+        // Given
+        Integer productId = createProductWithPrices("Single Query History");
+        statistics.clear();
+
+        // When
+        given()
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .body("name", equalTo("Single Query History"))
+            .body("prices", hasSize(3));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenProductWithPrices_whenGettingHistoryByCurrency_thenShouldRunSingleStatement() {
+        // Given
+        Integer productId = createProductWithPrices("Single Query Currency History");
+        statistics.clear();
+
+        // When
+        given()
+            .queryParam("currency", "USD")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .body("prices", hasSize(1))
+            .body("prices[0].currency", equalTo("USD"));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenMultipleCurrenciesOnDate_whenGettingPricesOnDate_thenShouldRunSingleStatement() {
+        // Given
+        Integer productId = createProductWithPrices("Single Query Date");
+        statistics.clear();
+
+        // When
+        given()
+            .queryParam("date", "2025-01-15")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .body("name", equalTo("Single Query Date"))
+            .body("prices", hasSize(2));
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenProductWithoutPrices_whenGettingHistory_thenShouldReturnEmptyPrices() {
+        // Given
+        Integer productId = createProduct("No Prices History");
+
+        // When & Then
+        given()
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .body("prices", empty());
+    }
+
+    @Test
+    void givenNonExistingProduct_whenGettingHistory_thenShouldReturn404() {
+        given()
+        .when()
+            .get("/products/{id}/prices", 999)
+        .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void givenProductWithPrices_whenPagingHistory_thenShouldWalkAllPagesNewestFirst() {
+        // Given
+        Integer productId = createProductWithPrices("Paginated History");
+
+        // When: first page
+        String nextCursor = given()
+            .queryParam("limit", 2)
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .header("Link", containsString("rel=\"next\""))
+            .body("prices", hasSize(2))
+            .body("prices[0].initDate", equalTo("2025-02-01"))
+            .body("nextCursor", notNullValue())
+            .extract()
+            .path("nextCursor");
+
+        // Then: second and last page
+        given()
+            .queryParam("limit", 2)
+            .queryParam("cursor", nextCursor)
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(200)
+            .header("Link", nullValue())
+            .body("prices", hasSize(1))
+            .body("prices[0].initDate", equalTo("2025-01-01"))
+            .body("nextCursor", nullValue());
+    }
+
+    @Test
+    void givenInvalidCursor_whenPagingHistory_thenShouldReturn400() {
+        // Given
+        Integer productId = createProduct("Invalid Cursor History");
+
+        // When & Then
+        given()
+            .queryParam("cursor", "not-a-cursor")
+        .when()
+            .get("/products/{id}/prices", productId)
+        .then()
+            .statusCode(400);
+    }
+
+    private Integer createProductWithPrices(String name) {
+        Integer productId = createProduct(name);
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-01-31"}
+            """);
+        addPrice(productId, """
+            {"value": 89.99, "currency": "EUR", "initDate": "2025-02-01", "endDate": null}
+            """);
+        addPrice(productId, """
+            {"value": 109.99, "currency": "USD", "initDate": "2025-01-01", "endDate": null}
+            """);
+        return productId;
+    }
+}
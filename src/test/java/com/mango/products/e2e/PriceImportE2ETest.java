@@ -0,0 +1,131 @@
+package com.mango.products.e2e;
+
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PriceImportE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenValidAndInvalidRows_whenImporting_thenShouldImportValidRowsAndReportTheOthers() {
+        // Given
+        Integer first = createProduct("Import Product 1");
+        Integer second = createProduct("Import Product 2");
+        addPrice(second, """
+            {"value": 50.00, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-01-31"}
+            """);
+
+        String body = String.format("""
+            {"prices": [
+              {"productId": %1$d, "value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-06-30"},
+              {"productId": %1$d, "value": 79.99, "currency": "EUR", "initDate": "2025-07-01", "endDate": null},
+              {"productId": %1$d, "value": 89.99, "currency": "EUR", "initDate": "2025-06-01", "endDate": "2025-06-15"},
+              {"productId": %2$d, "value": 45.00, "currency": "EUR", "initDate": "2025-01-15", "endDate": null},
+              {"productId": %2$d, "value": 55.00, "currency": "USD", "initDate": "2025-01-15", "endDate": null},
+              {"productId": 999, "value": 10.00, "currency": "EUR", "initDate": "2025-01-01", "endDate": null},
+              {"productId": %1$d, "value": 10.00, "currency": "ZZZ", "initDate": "2025-01-01", "endDate": null}
+            ]}
+            """, first, second);
+
+        // When & Then
+        given()
+            .contentType(ContentType.JSON)
+            .body(body)
+        .when()
+            .post("/prices/import")
+        .then()
+            .statusCode(200)
+            .body("received", equalTo(7))
+            .body("imported", equalTo(3))
+            .body("rejected", equalTo(4))
+            .body("errors.index", contains(2, 3, 5, 6))
+            .body("errors[0].message", containsString("already exists"))
+            .body("errors[2].message", containsString("999"))
+            .body("errors[3].message", containsString("ZZZ"));
+
+        given()
+            .queryParam("currency", "EUR")
+        .when()
+            .get("/products/{id}/prices", first)
+        .then()
+            .statusCode(200)
+            .body("prices", hasSize(2));
+    }
+
+    @Test
+    void givenItemWithoutValue_whenImporting_thenShouldReturn400() {
+        // Given
+        Integer productId = createProduct("Import Missing Value");
+
+        // When & Then
+        given()
+            .contentType(ContentType.JSON)
+            .body(String.format("""
+                {"prices": [{"productId": %d, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}]}
+                """, productId))
+        .when()
+            .post("/prices/import")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void givenEmptyImport_whenImporting_thenShouldReturn400() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"prices\": []}")
+        .when()
+            .post("/prices/import")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void givenLargeImport_whenImporting_thenShouldInsertEveryRow() {
+        // Given: 100 products x 2 currencies x 100 consecutive weeks
+        List<Integer> productIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            productIds.add(createProduct("Bulk Product " + i));
+        }
+        StringBuilder body = new StringBuilder("{\"prices\": [");
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        for (Integer productId : productIds) {
+            for (String currency : List.of("EUR", "USD")) {
+                for (int week = 0; week < 100; week++) {
+                    LocalDate initDate = start.plusWeeks(week);
+                    body.append(String.format("{\"productId\": %d, \"value\": 10.00, \"currency\": \"%s\", " +
+                            "\"initDate\": \"%s\", \"endDate\": \"%s\"},",
+                        productId, currency, initDate, initDate.plusDays(6)));
+                }
+            }
+        }
+        body.setCharAt(body.length() - 1, ']');
+        body.append('}');
+
+        // When
+        given()
+            .contentType(ContentType.JSON)
+            .body(body.toString())
+        .when()
+            .post("/prices/import")
+        .then()
+            .statusCode(200)
+            .body("imported", equalTo(20000))
+            .body("rejected", equalTo(0));
+
+        // Then
+        assertEquals(20000, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_prices", Integer.class));
+    }
+}
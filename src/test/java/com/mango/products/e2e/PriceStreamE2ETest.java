@@ -0,0 +1,61 @@
+package com.mango.products.e2e;
+
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceStreamE2ETest extends BaseE2ETest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void givenOpenStream_whenPriceAdded_thenShouldPushItAsEvent() throws Exception {
+        // Given
+        Integer productId = createProduct("Streamed Product");
+        HttpResponse<Stream<String>> stream = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/products/" + productId + "/prices/stream"))
+                .header("Accept", "text/event-stream")
+                .build(),
+            HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, stream.statusCode());
+        assertTrue(stream.headers().firstValue("Content-Type").orElseThrow().startsWith("text/event-stream"));
+        CompletableFuture<String> firstData = CompletableFuture.supplyAsync(() -> stream.body()
+            .filter(line -> line.startsWith("data:"))
+            .findFirst()
+            .orElseThrow());
+
+        // When
+        Integer priceId = postPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """)
+            .statusCode(201)
+            .extract().path("id");
+
+        // Then
+        JsonPath event = JsonPath.from(firstData.get(10, TimeUnit.SECONDS).substring("data:".length()));
+        assertEquals(priceId, event.getInt("id"));
+        assertEquals("EUR", event.getString("currency"));
+        assertEquals(99.99, event.getDouble("value"));
+        stream.body().close();
+    }
+
+    @Test
+    void givenNonExistingProduct_whenOpeningStream_thenShouldReturn404() {
+        // When & Then
+        given()
+        .when()
+            .get("/products/{id}/prices/stream", 999)
+        .then()
+            .statusCode(404);
+    }
+}
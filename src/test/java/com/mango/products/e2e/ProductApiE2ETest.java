@@ -3,6 +3,8 @@ package com.mango.products.e2e;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.Test;
 
+import static com.mango.products.e2e.SqlStatementBudget.SERVER_TIMING;
+import static com.mango.products.e2e.SqlStatementBudget.withinStatementBudget;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 
@@ -26,6 +28,7 @@ class ProductApiE2ETest extends BaseE2ETest {
             .post("/products")
         .then()
             .statusCode(201)
+            .header(SERVER_TIMING, withinStatementBudget(1))
             .body("id", notNullValue())
             .body("name", equalTo("E2E Product"))
             .body("description", equalTo("Product for testing"));
@@ -86,6 +89,7 @@ class ProductApiE2ETest extends BaseE2ETest {
             .get("/products/{id}", productId)
         .then()
             .statusCode(200)
+            .header(SERVER_TIMING, withinStatementBudget(1))
             .body("id", equalTo(productId))
             .body("name", equalTo("Get Test Product"))
             .body("description", equalTo("Test description"));
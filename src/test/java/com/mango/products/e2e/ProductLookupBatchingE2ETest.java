@@ -0,0 +1,58 @@
+package com.mango.products.e2e;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+// A pool far smaller than the number of concurrent requests, and a short acquire timeout
+@TestPropertySource(properties = {
+    "products.batching.products.enabled=true",
+    "products.batching.products.max-wait=20ms",
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=1000"
+})
+class ProductLookupBatchingE2ETest extends BaseE2ETest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void givenSmallPool_whenManyConcurrentProductAndPriceReads_thenShouldAllSucceed() throws Exception {
+        // Given
+        Integer productId = createProduct("Batched Product");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+        // When: half resolved by the batcher, half checking existence inside their read transaction
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                String path = i % 2 == 0 ? "/products/{id}" : "/products/{id}/prices?date=2025-03-01&currency=EUR";
+                statuses.add(executor.submit(() -> given().get(path, productId).statusCode()));
+            }
+
+            // Then
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(meterRegistry.get("products.batching.batch.size").tag("name", "products").summary().count() > 0);
+    }
+}
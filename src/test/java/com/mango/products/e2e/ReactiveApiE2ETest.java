@@ -0,0 +1,144 @@
+package com.mango.products.e2e;
+
+import com.mango.products.infrastructure.rest.controller.PriceController;
+import com.mango.products.infrastructure.rest.controller.ReactivePriceController;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// CONSTRAINT_FIRST so that overlaps and unknown products are reported by PostgreSQL through the R2DBC driver
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = "products.prices.write-mode=CONSTRAINT_FIRST")
+class ReactiveApiE2ETest extends BaseE2ETest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void givenReactiveProfile_whenStarting_thenShouldServePricesWithReactiveController() {
+        assertEquals(1, applicationContext.getBeanNamesForType(ReactivePriceController.class).length);
+        assertEquals(0, applicationContext.getBeanNamesForType(PriceController.class).length);
+    }
+
+    @Test
+    void givenProductWithPrices_whenReadingHistoryAndDates_thenShouldMatchBlockingContract() {
+        // Given
+        Integer productId = createProduct("Reactive Product");
+        postPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": "2025-01-31"}
+            """).statusCode(201).body("id", notNullValue());
+        addPrice(productId, """
+            {"value": 109.99, "currency": "USD", "initDate": "2025-01-01", "endDate": null}
+            """);
+
+        // When & Then
+        given().when().get("/products/{id}", productId)
+            .then().statusCode(200).body("name", equalTo("Reactive Product"));
+        given().when().get("/products/{id}/prices", productId)
+            .then().statusCode(200).body("prices", hasSize(2));
+        given().queryParam("date", "2025-01-15").queryParam("currency", "EUR")
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(200).body("value", equalTo(99.99f));
+        given().queryParam("date", "2025-01-15")
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(200).body("prices.currency", contains("EUR", "USD"));
+        given().queryParam("date", "2025-03-01").queryParam("currency", "EUR")
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(404);
+        given().queryParam("limit", 1)
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(200).body("prices", hasSize(1)).body("nextCursor", notNullValue());
+    }
+
+    @Test
+    void givenCurrentETag_whenReadingAgain_thenShouldReturn304WithCacheControl() {
+        // Given
+        Integer productId = createProduct("Reactive Conditional");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        String productETag = given().when().get("/products/{id}", productId)
+            .then().statusCode(200).header("ETag", notNullValue()).extract().header("ETag");
+        String priceETag = given().queryParam("date", "2025-01-15").queryParam("currency", "EUR")
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(200).header("Cache-Control", equalTo("no-cache")).extract().header("ETag");
+
+        // When & Then
+        given().header("If-None-Match", productETag)
+            .when().get("/products/{id}", productId)
+            .then().statusCode(304).header("ETag", equalTo(productETag));
+        given().header("If-None-Match", priceETag).queryParam("date", "2025-01-15").queryParam("currency", "EUR")
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(304).header("Cache-Control", equalTo("no-cache"));
+        given().header("If-None-Match", priceETag)
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(304);
+
+        // A new price bumps the version, so the old ETag no longer matches
+        addPrice(productId, """
+            {"value": 109.99, "currency": "USD", "initDate": "2025-01-01", "endDate": null}
+            """);
+        given().header("If-None-Match", priceETag)
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(200).header("ETag", not(equalTo(priceETag)));
+    }
+
+    @Test
+    void givenOverlappingPrice_whenAddingPrice_thenShouldReturn409FromExclusionConstraint() {
+        // Given
+        Integer productId = createProduct("Reactive Overlap");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+
+        // When & Then
+        postPrice(productId, """
+            {"value": 89.99, "currency": "EUR", "initDate": "2025-06-01", "endDate": "2025-06-30"}
+            """)
+            .statusCode(409)
+            .body("message", containsString("already exists"));
+    }
+
+    @Test
+    void givenNonExistingProduct_whenAddingPriceAndReading_thenShouldReturn404() {
+        postPrice(999, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """)
+            .statusCode(404)
+            .body("message", containsString("999"));
+        given().when().get("/products/{id}/prices", 999).then().statusCode(404);
+        given().when().get("/products/{id}", 999).then().statusCode(404);
+    }
+
+    @Test
+    void givenExistingName_whenCreatingProduct_thenShouldReturn409FromUniqueConstraint() {
+        createProduct("Reactive Duplicate");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"name\": \"Reactive Duplicate\"}")
+        .when()
+            .post("/products")
+        .then()
+            .statusCode(409);
+    }
+
+    @Test
+    void givenInvalidRequest_whenAddingPrice_thenShouldReturn400() {
+        Integer productId = createProduct("Reactive Validation");
+
+        postPrice(productId, """
+            {"value": 99.99, "currency": "EUR"}
+            """).statusCode(400);
+        given().queryParam("limit", 0)
+            .when().get("/products/{id}/prices", productId)
+            .then().statusCode(400);
+    }
+}
@@ -0,0 +1,42 @@
+package com.mango.products.e2e;
+
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = {
+    "products.outbox.enabled=true",
+    "products.outbox.relay.interval=100ms"
+})
+class ReactiveChangeFeedE2ETest extends BaseE2ETest {
+
+    @Test
+    void givenReactiveWrites_whenReadingFeed_thenShouldReturnTheirEventsInOrder() throws InterruptedException {
+        // Given
+        long start = drainChanges(0);
+        Integer productId = createProduct("Reactive Feed Product");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+
+        // When
+        JsonPath feed = awaitChanges(start, 2);
+
+        // Then: written in the same R2DBC transactions as the product and the price
+        List<Map<String, Object>> events = feed.getList("events");
+        assertEquals(List.of("PRODUCT_CREATED", "PRICE_ADDED"),
+            events.stream().map(event -> event.get("type")).toList());
+        assertTrue(events.stream().allMatch(event -> productId.equals(event.get("productId"))));
+        long first = feed.getLong("events[0].offset");
+        long second = feed.getLong("events[1].offset");
+        assertTrue(first > start && second > first);
+        assertEquals(second, feed.getLong("nextOffset"));
+    }
+}
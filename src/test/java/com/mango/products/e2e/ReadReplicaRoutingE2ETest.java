@@ -0,0 +1,85 @@
+package com.mango.products.e2e;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaRoutingE2ETest extends BaseE2ETest {
+
+    private static final String COOKIE_NAME = "products-recent-write";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureReplica(DynamicPropertyRegistry registry) {
+        registry.add("products.datasource.replicas.urls", BaseE2ETest::startReplica);
+        registry.add("products.datasource.replicas.read-your-writes-window", () -> "5s");
+    }
+
+    @Test
+    void givenReplicatedProduct_whenReadingWithoutRecentWrite_thenShouldBeServedByReplica() throws InterruptedException {
+        // Given
+        Integer productId = createProductResponse("Replica Routed Product").path("id");
+        double replicaAcquiresBefore = acquires("replica-1");
+
+        // When: poll until streaming replication has caught up
+        int status = 0;
+        for (int attempt = 0; attempt < 50 && status != 200; attempt++) {
+            status = given().when().get("/products/{id}", productId).statusCode();
+            if (status != 200) {
+                Thread.sleep(100);
+            }
+        }
+
+        // Then
+        assertEquals(200, status);
+        assertTrue(acquires("replica-1") > replicaAcquiresBefore);
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.max").tag("pool", "replica-1").gauge());
+    }
+
+    @Test
+    void givenRecentWrite_whenReadingWithCookie_thenShouldBeServedByPrimary() {
+        // Given
+        Response created = createProductResponse("Read Your Writes Product");
+        String cookie = created.getCookie(COOKIE_NAME);
+        assertNotNull(cookie);
+        double replicaAcquiresBefore = acquires("replica-1");
+
+        // When
+        int status = given()
+            .cookie(COOKIE_NAME, cookie)
+        .when()
+            .get("/products/{id}", created.<Integer>path("id"))
+            .statusCode();
+
+        // Then: visible immediately, without touching the replica
+        assertEquals(200, status);
+        assertEquals(replicaAcquiresBefore, acquires("replica-1"));
+    }
+
+    private double acquires(String pool) {
+        var timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private Response createProductResponse(String name) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(String.format("{\"name\": \"%s\"}", name))
+        .when()
+            .post("/products")
+        .then()
+            .statusCode(201)
+            .extract()
+            .response();
+    }
+}
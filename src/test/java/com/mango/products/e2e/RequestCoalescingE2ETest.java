@@ -0,0 +1,90 @@
+package com.mango.products.e2e;
+
+import com.mango.products.application.usecase.GetProductPricesUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+    "products.prices.coalescing.enabled=true",
+    "products.prices.coalescing.timeout=5s"
+})
+class RequestCoalescingE2ETest extends BaseE2ETest {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @MockitoSpyBean
+    private GetProductPricesUseCase getProductPricesUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void givenConcurrentIdenticalLookups_whenRequestingPriceOnDate_thenShouldShareOneQuery() throws Exception {
+        // Given
+        Integer productId = createProduct("Coalesced Product");
+        addPrice(productId, """
+            {"value": 99.99, "currency": "EUR", "initDate": "2025-01-01", "endDate": null}
+            """);
+        // Keep the first lookup in flight long enough for the others to arrive
+        doAnswer(invocation -> {
+            Thread.sleep(500);
+            return invocation.callRealMethod();
+        }).when(getProductPricesUseCase).getCurrentPriceByCurrency(anyLong(), anyString(), any(LocalDate.class));
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Float>> values = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                values.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .queryParam("date", "2025-03-01")
+                        .queryParam("currency", "EUR")
+                        .get("/products/{id}/prices", productId)
+                        .then().statusCode(200)
+                        .extract().<Float>path("value");
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<Float> value : values) {
+                assertEquals(99.99f, value.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        int executed = calls("executed");
+        assertTrue(calls("collapsed") > 0);
+        assertEquals(CONCURRENT_REQUESTS, executed + calls("collapsed"));
+        verify(getProductPricesUseCase, times(executed)).getCurrentPriceByCurrency(anyLong(), anyString(), any(LocalDate.class));
+    }
+
+    private int calls(String result) {
+        return (int) meterRegistry.get("products.singleflight.calls")
+            .tag("name", "current-price")
+            .tag("result", result)
+            .counter().count();
+    }
+}
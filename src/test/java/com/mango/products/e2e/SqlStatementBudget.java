@@ -0,0 +1,52 @@
+package com.mango.products.e2e;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.regex.Pattern;
+
+/**
+ * Statement budgets for E2E tests, checked against the {@code Server-Timing} header:
+ * <pre>
+ * .then().header(SERVER_TIMING, withinStatementBudget(1))
+ * </pre>
+ * A failure means the endpoint started issuing more queries (an N+1, a lost join fetch...).
+ */
+final class SqlStatementBudget {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    private SqlStatementBudget() {
+    }
+
+    static Matcher<String> withinStatementBudget(int maxStatements) {
+        return new TypeSafeMatcher<>() {
+            @Override
+            protected boolean matchesSafely(String serverTiming) {
+                int statements = statementCount(serverTiming);
+                return statements >= 0 && statements <= maxStatements;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("at most " + maxStatements + " SQL statements");
+            }
+
+            @Override
+            protected void describeMismatchSafely(String serverTiming, Description mismatch) {
+                mismatch.appendText("executed " + statementCount(serverTiming) + " (" + serverTiming + ")");
+            }
+        };
+    }
+
+    /**
+     * @return the statement count reported in the header, or -1 if it has none
+     */
+    static int statementCount(String serverTiming) {
+        java.util.regex.Matcher matcher = STATEMENTS.matcher(serverTiming);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
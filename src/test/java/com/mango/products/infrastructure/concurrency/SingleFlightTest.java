@@ -0,0 +1,193 @@
+package com.mango.products.infrastructure.concurrency;
+
+import com.mango.products.domain.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenConcurrentCallsForSameKey_whenExecuting_thenShouldRunLoaderOnceAndShareResult() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "price";
+        };
+
+        // When
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("key", loader));
+        waitForCollapsedCalls(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("price", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, count("executed"));
+        assertEquals(CALLERS - 1, count("collapsed"));
+    }
+
+    @Test
+    void givenFailingLoader_whenCallsAreCollapsed_thenEveryCallerShouldGetSameException() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            await(release);
+            throw new ProductNotFoundException(1L);
+        };
+
+        // When
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("key", loader));
+        waitForCollapsedCalls(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ProductNotFoundException.class, failure.getCause());
+        }
+    }
+
+    @Test
+    void givenCompletedCall_whenExecutingAgain_thenShouldLoadAgain() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        singleFlight.execute("key", loads::incrementAndGet);
+        Integer second = singleFlight.execute("key", loads::incrementAndGet);
+
+        // Then
+        assertEquals(2, second);
+        assertEquals(2, count("executed"));
+    }
+
+    @Test
+    void givenSlowLeader_whenWaiterTimesOut_thenWaiterShouldReplaceOverdueCall() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(release);
+            return "slow";
+        }));
+        waitForCount("executed", 1);
+
+        // When
+        String waiter = singleFlight.execute("key", () -> "own");
+        release.countDown();
+
+        // Then
+        assertEquals("own", waiter);
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, count("timed_out"));
+    }
+
+    @Test
+    void givenOverdueCall_whenWaitersTimeOut_thenShouldRunOneFreshLoadForTheKey() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(300), meterRegistry);
+        CountDownLatch releaseStuck = new CountDownLatch(1);
+        CountDownLatch releaseFresh = new CountDownLatch(1);
+        AtomicInteger freshLoads = new AtomicInteger();
+        Future<String> stuck = executor.submit(() -> singleFlight.execute("key", () -> {
+            await(releaseStuck);
+            return "stuck";
+        }));
+        waitForCount("executed", 1);
+
+        // When: every waiter joined the stuck call, then one replaces it and the rest join the replacement
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < CALLERS - 1; i++) {
+            waiters.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                freshLoads.incrementAndGet();
+                await(releaseFresh);
+                return "fresh";
+            })));
+        }
+        waitForCount("timed_out", 1);
+        waitForCollapsedCalls((CALLERS - 1) + (CALLERS - 2));
+        releaseFresh.countDown();
+
+        // Then
+        for (Future<String> waiter : waiters) {
+            assertEquals("fresh", waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, freshLoads.get());
+        releaseStuck.countDown();
+        assertEquals("stuck", stuck.get(5, TimeUnit.SECONDS));
+    }
+
+    private <T> List<Future<T>> submitAll(Callable<T> call) {
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(call));
+        }
+        return futures;
+    }
+
+    private void waitForCollapsedCalls(int expected) throws InterruptedException {
+        waitForCount("collapsed", expected);
+    }
+
+    private void waitForCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, count(result));
+    }
+
+    private int count(String result) {
+        return (int) meterRegistry.get(SingleFlight.METRIC_NAME).tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mango.products.infrastructure.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementTrackerTest {
+
+    private final SqlStatementTracker tracker = new SqlStatementTracker();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementTracker.stop();
+    }
+
+    @Test
+    void givenTrackedScope_whenStatementsExecute_thenShouldCountThemAndSumTheirTime() {
+        // Given
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+
+        // When
+        tracker.afterQuery(executed(3), List.of());
+        tracker.afterQuery(executed(4), List.of());
+
+        // Then
+        assertEquals(2, stats.statements());
+        assertEquals(7, stats.elapsedMillis());
+        assertSame(stats, SqlStatementTracker.current().orElseThrow());
+    }
+
+    @Test
+    void givenNoTrackedScope_whenStatementsExecute_thenShouldIgnoreThem() {
+        // When
+        tracker.afterQuery(executed(3), List.of());
+
+        // Then
+        assertTrue(SqlStatementTracker.current().isEmpty());
+    }
+
+    @Test
+    void givenStoppedScope_whenStatementsExecute_thenShouldNotCountThem() {
+        // Given
+        SqlStatementTracker.Stats stats = SqlStatementTracker.start();
+        SqlStatementTracker.stop();
+
+        // When
+        tracker.afterQuery(executed(3), List.of());
+
+        // Then
+        assertEquals(0, stats.statements());
+    }
+
+    private static ExecutionInfo executed(long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        return info;
+    }
+}
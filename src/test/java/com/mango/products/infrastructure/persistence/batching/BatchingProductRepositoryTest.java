@@ -0,0 +1,125 @@
+package com.mango.products.infrastructure.persistence.batching;
+
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.model.Product;
+import com.mango.products.infrastructure.persistence.routing.ReadYourWritesContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        repository = new BatchingProductRepository(delegate, readOnlyTransaction, Duration.ofMillis(1), 100, 1,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+        ReadYourWritesContext.clear();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void givenExistingProduct_whenLookingUp_thenShouldLoadThroughBatchQuery() {
+        // Given
+        Product product = Product.of(1L, "Product", "Description");
+        when(delegate.findAllById(Set.of(1L))).thenReturn(List.of(product));
+
+        // When
+        Optional<Product> result = repository.findById(1L);
+
+        // Then
+        assertEquals(Optional.of(product), result);
+        verify(transactionManager).getTransaction(any());
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void givenUnknownProduct_whenCheckingExistence_thenShouldReturnFalse() {
+        // Given
+        when(delegate.findAllById(Set.of(999L))).thenReturn(List.of());
+
+        // When
+        boolean exists = repository.existsById(999L);
+
+        // Then
+        assertFalse(exists);
+        verify(delegate, never()).existsById(any());
+    }
+
+    @Test
+    void givenWriteTransaction_whenLookingUp_thenShouldBypassBatcher() {
+        // Given
+        Product product = Product.of(1L, "Product", "Description");
+        when(delegate.findById(1L)).thenReturn(Optional.of(product));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        Optional<Product> result = repository.findById(1L);
+
+        // Then
+        assertEquals(Optional.of(product), result);
+        verify(delegate, never()).findAllById(any());
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenCheckingExistence_thenShouldBypassBatcherToKeepOneConnectionPerCaller() {
+        // Given
+        when(delegate.existsById(1L)).thenReturn(true);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        boolean exists = repository.existsById(1L);
+
+        // Then
+        assertTrue(exists);
+        verify(delegate, never()).findAllById(any());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void givenClientPinnedToPrimary_whenCheckingExistence_thenShouldBypassBatcher() {
+        // Given
+        when(delegate.existsById(1L)).thenReturn(true);
+        ReadYourWritesContext.pinToPrimary();
+
+        // When
+        boolean exists = repository.existsById(1L);
+
+        // Then
+        assertTrue(exists);
+        verify(delegate, never()).findAllById(any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.mango.products.infrastructure.persistence.batching;
+
+import com.mango.products.domain.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private List<Set<Long>> batches;
+    private MicroBatcher<Long, String> batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void givenConcurrentLookupsWithinWindow_whenLoading_thenShouldResolveThemWithOneBatch() throws Exception {
+        // Given
+        batcher = batcher(evenIdsOnly(), Duration.ofMillis(200), 100);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (long id = 1; id <= CALLERS; id++) {
+            long key = id;
+            results.add(executor.submit(() -> batcher.load(key)));
+        }
+
+        // Then
+        for (int i = 0; i < CALLERS; i++) {
+            long id = i + 1;
+            assertEquals(id % 2 == 0 ? "product-" + id : null, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, batches.size());
+        assertEquals(CALLERS, batches.get(0).size());
+        assertEquals(CALLERS, meterRegistry.get(MicroBatcher.METRIC_NAME).summary().totalAmount());
+    }
+
+    @Test
+    void givenSameKeyRequestedTwice_whenLoading_thenShouldLoadItOnce() throws Exception {
+        // Given
+        batcher = batcher(evenIdsOnly(), Duration.ofMillis(200), 100);
+
+        // When
+        Future<String> first = executor.submit(() -> batcher.load(2L));
+        Future<String> second = executor.submit(() -> batcher.load(2L));
+
+        // Then
+        assertEquals("product-2", first.get(5, TimeUnit.SECONDS));
+        assertEquals("product-2", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of(2L)), batches);
+    }
+
+    @Test
+    void givenBatchReachesMaxSize_whenLoading_thenShouldDispatchWithoutWaitingForWindow() throws Exception {
+        // Given
+        batcher = batcher(evenIdsOnly(), Duration.ofMinutes(1), 2);
+
+        // When
+        Future<String> first = executor.submit(() -> batcher.load(2L));
+        Future<String> second = executor.submit(() -> batcher.load(4L));
+
+        // Then
+        assertEquals("product-2", first.get(5, TimeUnit.SECONDS));
+        assertEquals("product-4", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of(2L, 4L)), batches);
+    }
+
+    @Test
+    void givenFailingLoader_whenLoading_thenEveryCallerInBatchShouldGetException() throws Exception {
+        // Given
+        batcher = batcher(ids -> {
+            throw new ProductNotFoundException(ids.iterator().next());
+        }, Duration.ofMillis(200), 100);
+
+        // When
+        Future<String> first = executor.submit(() -> batcher.load(1L));
+        Future<String> second = executor.submit(() -> batcher.load(2L));
+
+        // Then
+        for (Future<String> result : List.of(first, second)) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ProductNotFoundException.class, exception.getCause());
+        }
+    }
+
+    private MicroBatcher<Long, String> batcher(Function<Set<Long>, Map<Long, String>> loader, Duration maxWait,
+                                               int maxBatchSize) {
+        return new MicroBatcher<>("test", ids -> {
+            batches.add(Set.copyOf(ids));
+            return loader.apply(ids);
+        }, maxWait, maxBatchSize, 1, meterRegistry);
+    }
+
+    private static Function<Set<Long>, Map<Long, String>> evenIdsOnly() {
+        return ids -> ids.stream()
+                .filter(id -> id % 2 == 0)
+                .collect(Collectors.toMap(Function.identity(), id -> "product-" + id));
+    }
+}
@@ -0,0 +1,213 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCurrentPriceRepositoryTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Long PRODUCT_ID = 1L;
+
+    private static final Price EUR_JANUARY = Price.of(1L, PRODUCT_ID, BigDecimal.valueOf(10.00), EUR,
+        LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+    private static final Price EUR_FEBRUARY = Price.of(2L, PRODUCT_ID, BigDecimal.valueOf(12.00), EUR,
+        LocalDate.of(2025, 2, 1), null);
+    private static final Price USD_OPEN = Price.of(3L, PRODUCT_ID, BigDecimal.valueOf(11.00), USD,
+        LocalDate.of(2024, 12, 1), null);
+
+    @Mock
+    private PriceRepository delegate;
+
+    private MutableClock clock;
+    private CachingCurrentPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDate.of(2025, 1, 15));
+        repository = new CachingCurrentPriceRepository(delegate, 10, clock);
+    }
+
+    @Test
+    void givenCachedProduct_whenReadingTodayAgain_thenShouldHitDatabaseOnce() {
+        // Given
+        when(delegate.findByProductId(PRODUCT_ID)).thenReturn(List.of(EUR_FEBRUARY, EUR_JANUARY, USD_OPEN));
+        LocalDate today = LocalDate.now(clock);
+
+        // When
+        Optional<Price> eur = repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", today);
+        Optional<Price> usd = repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "USD", today);
+        List<Price> all = repository.findByProductIdAndDate(PRODUCT_ID, today);
+
+        // Then
+        assertEquals(Optional.of(EUR_JANUARY), eur);
+        assertEquals(Optional.of(USD_OPEN), usd);
+        assertEquals(List.of(EUR_JANUARY, USD_OPEN), all);
+        verify(delegate, times(1)).findByProductId(PRODUCT_ID);
+    }
+
+    @Test
+    void givenDaysPassWithoutBoundary_whenReadingToday_thenShouldKeepServingEntry() {
+        // Given
+        when(delegate.findByProductId(PRODUCT_ID)).thenReturn(List.of(EUR_FEBRUARY, EUR_JANUARY, USD_OPEN));
+        repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", LocalDate.now(clock));
+        clock.set(LocalDate.of(2025, 1, 31));
+
+        // When
+        Optional<Price> eur = repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", LocalDate.now(clock));
+
+        // Then
+        assertEquals(Optional.of(EUR_JANUARY), eur);
+        verify(delegate, times(1)).findByProductId(PRODUCT_ID);
+    }
+
+    @Test
+    void givenActivePriceEnded_whenReadingToday_thenShouldReloadAndServeNextPrice() {
+        // Given
+        when(delegate.findByProductId(PRODUCT_ID)).thenReturn(List.of(EUR_FEBRUARY, EUR_JANUARY, USD_OPEN));
+        repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", LocalDate.now(clock));
+        clock.set(LocalDate.of(2025, 2, 1));
+
+        // When
+        Optional<Price> eur = repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", LocalDate.now(clock));
+
+        // Then
+        assertEquals(Optional.of(EUR_FEBRUARY), eur);
+        verify(delegate, times(2)).findByProductId(PRODUCT_ID);
+    }
+
+    @Test
+    void givenNoActivePriceYet_whenLaterPriceStarts_thenShouldStopServingEmptyAnswer() {
+        // Given
+        when(delegate.findByProductId(PRODUCT_ID)).thenReturn(List.of(EUR_FEBRUARY));
+        clock.set(LocalDate.of(2025, 1, 20));
+        Optional<Price> before = repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", LocalDate.now(clock));
+        clock.set(LocalDate.of(2025, 2, 1));
+
+        // When
+        Optional<Price> after = repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", LocalDate.now(clock));
+
+        // Then
+        assertTrue(before.isEmpty());
+        assertEquals(Optional.of(EUR_FEBRUARY), after);
+        verify(delegate, times(2)).findByProductId(PRODUCT_ID);
+    }
+
+    @Test
+    void givenDateOutsideCachedWindow_whenReading_thenShouldGoToDelegateWithoutCaching() {
+        // Given
+        LocalDate lastYear = LocalDate.of(2024, 1, 15);
+        when(delegate.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", lastYear)).thenReturn(Optional.empty());
+
+        // When
+        repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", lastYear);
+        repository.findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", lastYear);
+
+        // Then
+        verify(delegate, times(2)).findByProductIdAndCurrencyAndDate(PRODUCT_ID, "EUR", lastYear);
+        verify(delegate, never()).findByProductId(any());
+    }
+
+    @Test
+    void givenCachedProduct_whenSavingPrice_thenShouldReloadOnNextRead() {
+        // Given
+        when(delegate.findByProductId(PRODUCT_ID)).thenReturn(List.of(EUR_JANUARY));
+        Price usd = Price.create(PRODUCT_ID, BigDecimal.valueOf(11.00), USD, LocalDate.of(2025, 1, 10), null);
+        repository.findByProductIdAndDate(PRODUCT_ID, LocalDate.now(clock));
+
+        // When
+        repository.save(usd);
+        repository.findByProductIdAndDate(PRODUCT_ID, LocalDate.now(clock));
+
+        // Then
+        verify(delegate).save(usd);
+        verify(delegate, times(2)).findByProductId(PRODUCT_ID);
+    }
+
+    @Test
+    void givenBatchLookupForToday_whenRepeated_thenShouldServeSecondFromCache() {
+        // Given
+        Long withoutPrices = 2L;
+        Set<Long> productIds = Set.of(PRODUCT_ID, withoutPrices);
+        LocalDate today = LocalDate.now(clock);
+        when(delegate.findByProductIds(productIds)).thenReturn(List.of(EUR_FEBRUARY, EUR_JANUARY, USD_OPEN));
+        when(delegate.findActiveByProductIds(Set.of(withoutPrices), "EUR", today)).thenReturn(Map.of(withoutPrices, List.of()));
+        Map<Long, List<Price>> first = repository.findActiveByProductIds(productIds, "EUR", today);
+
+        // When
+        Map<Long, List<Price>> second = repository.findActiveByProductIds(productIds, "EUR", today);
+
+        // Then
+        Map<Long, List<Price>> expected = Map.of(PRODUCT_ID, List.of(EUR_JANUARY), withoutPrices, List.of());
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+        verify(delegate, times(1)).findByProductIds(productIds);
+        verify(delegate, times(1)).findActiveByProductIds(any(), any(), any());
+    }
+
+    @Test
+    void givenUnknownProduct_whenBatchLookupForToday_thenShouldLeaveItOutOfResult() {
+        // Given
+        Long unknown = 99L;
+        Set<Long> productIds = Set.of(PRODUCT_ID, unknown);
+        LocalDate today = LocalDate.now(clock);
+        when(delegate.findByProductIds(productIds)).thenReturn(List.of(USD_OPEN));
+        when(delegate.findActiveByProductIds(Set.of(unknown), null, today)).thenReturn(Map.of());
+
+        // When
+        Map<Long, List<Price>> active = repository.findActiveByProductIds(productIds, null, today);
+
+        // Then
+        assertEquals(Map.of(PRODUCT_ID, List.of(USD_OPEN)), active);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDate date) {
+            set(date);
+        }
+
+        void set(LocalDate date) {
+            this.instant = date.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.application.port.out.PriceRepository;
+import com.mango.products.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPriceRepositoryTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Mock
+    private PriceRepository delegate;
+
+    private CachingPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingPriceRepository(delegate, 2);
+    }
+
+    @Test
+    void givenCachedProduct_whenReadingAllQueryVariants_thenShouldHitDatabaseOnce() {
+        // Given
+        Long productId = 1L;
+        Price eurJanuary = Price.of(1L, productId, BigDecimal.valueOf(10.00), EUR,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        Price eurFebruary = Price.of(2L, productId, BigDecimal.valueOf(12.00), EUR,
+            LocalDate.of(2025, 2, 1), null);
+        Price usdJanuary = Price.of(3L, productId, BigDecimal.valueOf(11.00), USD,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        when(delegate.findByProductId(productId)).thenReturn(Arrays.asList(eurFebruary, eurJanuary, usdJanuary));
+
+        // When
+        List<Price> all = repository.findByProductId(productId);
+        List<Price> eur = repository.findByProductIdAndCurrency(productId, "EUR");
+        List<Price> onJanuary = repository.findByProductIdAndDate(productId, LocalDate.of(2025, 1, 15));
+        Optional<Price> eurOnMarch = repository.findByProductIdAndCurrencyAndDate(productId, "EUR", LocalDate.of(2025, 3, 1));
+        Optional<Price> usdOnMarch = repository.findByProductIdAndCurrencyAndDate(productId, "USD", LocalDate.of(2025, 3, 1));
+
+        // Then
+        assertEquals(3, all.size());
+        assertEquals(Arrays.asList(eurFebruary, eurJanuary), eur);
+        assertEquals(2, onJanuary.size());
+        assertTrue(onJanuary.containsAll(Arrays.asList(eurJanuary, usdJanuary)));
+        assertEquals(Optional.of(eurFebruary), eurOnMarch);
+        assertTrue(usdOnMarch.isEmpty());
+
+        verify(delegate, times(1)).findByProductId(productId);
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void givenCachedProduct_whenSavingPrice_thenShouldReloadTimeline() {
+        // Given
+        Long productId = 1L;
+        Price existing = Price.of(1L, productId, BigDecimal.valueOf(10.00), EUR,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        Price added = Price.of(2L, productId, BigDecimal.valueOf(12.00), EUR,
+            LocalDate.of(2025, 2, 1), null);
+        when(delegate.findByProductId(productId))
+            .thenReturn(List.of(existing))
+            .thenReturn(Arrays.asList(added, existing));
+        when(delegate.save(any(Price.class))).thenReturn(added);
+        repository.findByProductId(productId);
+
+        // When
+        repository.save(added);
+        List<Price> result = repository.findByProductId(productId);
+
+        // Then
+        assertEquals(2, result.size());
+        verify(delegate, times(2)).findByProductId(productId);
+    }
+
+    @Test
+    void givenCachedProducts_whenSavingPricesInBulk_thenShouldReloadOnlyImportedProducts() {
+        // Given
+        Price imported = Price.create(1L, BigDecimal.valueOf(12.00), EUR, LocalDate.of(2025, 2, 1), null);
+        when(delegate.findByProductId(any())).thenReturn(List.of());
+        repository.findByProductId(1L);
+        repository.findByProductId(2L);
+
+        // When
+        repository.saveAll(List.of(imported));
+        repository.findByProductId(1L);
+        repository.findByProductId(2L);
+
+        // Then
+        verify(delegate).saveAll(List.of(imported));
+        verify(delegate, times(2)).findByProductId(1L);
+        verify(delegate, times(1)).findByProductId(2L);
+    }
+
+    @Test
+    void givenFullCache_whenLoadingAnotherProduct_thenShouldEvictLeastRecentlyUsed() {
+        // Given
+        when(delegate.findByProductId(any())).thenReturn(List.of());
+        repository.findByProductId(1L);
+        repository.findByProductId(2L);
+        repository.findByProductId(1L);
+
+        // When
+        repository.findByProductId(3L);
+        repository.findByProductId(1L);
+        repository.findByProductId(2L);
+
+        // Then
+        verify(delegate, times(1)).findByProductId(1L);
+        verify(delegate, times(2)).findByProductId(2L);
+        verify(delegate, times(1)).findByProductId(3L);
+    }
+}
@@ -0,0 +1,135 @@
+package com.mango.products.infrastructure.persistence.cache;
+
+import com.mango.products.application.port.out.ProductRepository;
+import com.mango.products.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private ProductRepository delegate;
+
+    @Mock
+    private Clock clock;
+
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProductRepository(delegate, 10, 10, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void givenExistingProduct_whenLookingUpTwice_thenShouldHitDatabaseOnce() {
+        // Given
+        Product product = Product.of(1L, "Product", "Description");
+        when(delegate.findById(1L)).thenReturn(Optional.of(product));
+
+        // When
+        Optional<Product> first = repository.findById(1L);
+        boolean exists = repository.existsById(1L);
+
+        // Then
+        assertEquals(Optional.of(product), first);
+        assertTrue(exists);
+        verify(delegate, times(1)).findById(1L);
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void givenAbsentProduct_whenLookingUpWithinTtl_thenShouldServeNegativeEntry() {
+        // Given
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(10));
+        when(delegate.findById(999L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<Product> first = repository.findById(999L);
+        boolean exists = repository.existsById(999L);
+
+        // Then
+        assertTrue(first.isEmpty());
+        assertFalse(exists);
+        verify(delegate, times(1)).findById(999L);
+    }
+
+    @Test
+    void givenAbsentProduct_whenTtlExpired_thenShouldQueryDatabaseAgain() {
+        // Given
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(30), NOW.plusSeconds(30));
+        when(delegate.findById(999L)).thenReturn(Optional.empty());
+        repository.findById(999L);
+
+        // When
+        repository.findById(999L);
+
+        // Then
+        verify(delegate, times(2)).findById(999L);
+    }
+
+    @Test
+    void givenAbsentProduct_whenProductIsCreatedWithThatId_thenShouldDropNegativeEntry() {
+        // Given
+        Product created = Product.of(3L, "New product", null);
+        when(clock.instant()).thenReturn(NOW);
+        when(delegate.findById(3L)).thenReturn(Optional.empty()).thenReturn(Optional.of(created));
+        when(delegate.save(any(Product.class))).thenReturn(created);
+        repository.findById(3L);
+
+        // When
+        repository.save(Product.create("New product", null));
+        Optional<Product> result = repository.findById(3L);
+
+        // Then
+        assertEquals(Optional.of(created), result);
+        verify(delegate, times(2)).findById(3L);
+    }
+
+    @Test
+    void givenCachedProduct_whenReadingVersion_thenShouldNotHitDatabase() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(Product.of(1L, "Product", null, 4L)));
+        repository.findById(1L);
+
+        // When
+        Optional<Long> version = repository.findVersionById(1L);
+
+        // Then
+        assertEquals(Optional.of(4L), version);
+        verify(delegate, never()).findVersionById(any());
+    }
+
+    @Test
+    void givenCachedProduct_whenIncrementingVersion_thenShouldReloadProduct() {
+        // Given
+        when(delegate.findById(1L))
+            .thenReturn(Optional.of(Product.of(1L, "Product", null, 4L)))
+            .thenReturn(Optional.of(Product.of(1L, "Product", null, 5L)));
+        when(delegate.incrementVersion(1L)).thenReturn(true);
+        repository.findById(1L);
+
+        // When
+        boolean incremented = repository.incrementVersion(1L);
+        Optional<Long> version = repository.findById(1L).map(Product::getVersion);
+
+        // Then
+        assertTrue(incremented);
+        assertEquals(Optional.of(5L), version);
+        verify(delegate, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.mango.products.infrastructure.persistence.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductChangeNotificationsTest {
+
+    @Test
+    void givenProductIds_whenEncodingAndDecoding_thenShouldRoundTrip() {
+        // Given
+        Set<Long> ids = Set.of(1L, 42L, Long.MAX_VALUE);
+
+        // When
+        List<String> payloads = ProductChangeNotifications.encode(ids);
+
+        // Then
+        assertEquals(1, payloads.size());
+        assertEquals(ids, ProductChangeNotifications.decode(payloads.get(0)));
+    }
+
+    @Test
+    void givenManyProductIds_whenEncoding_thenShouldStayBelowPayloadLimit() {
+        // Given
+        Set<Long> ids = LongStream.range(Long.MAX_VALUE - 1000, Long.MAX_VALUE).boxed().collect(Collectors.toSet());
+
+        // When
+        List<String> payloads = ProductChangeNotifications.encode(ids);
+
+        // Then
+        assertEquals(4, payloads.size());
+        Set<Long> decoded = new HashSet<>();
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < 8000);
+            decoded.addAll(ProductChangeNotifications.decode(payload));
+        }
+        assertEquals(ids, decoded);
+    }
+
+    @Test
+    void givenForeignPayload_whenDecoding_thenShouldThrow() {
+        // When & Then
+        assertThrows(NumberFormatException.class, () -> ProductChangeNotifications.decode("hello"));
+    }
+}
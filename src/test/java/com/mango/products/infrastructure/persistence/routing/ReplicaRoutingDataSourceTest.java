@@ -0,0 +1,124 @@
+package com.mango.products.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private Clock clock;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(30), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void givenNoReadOnlyTransaction_whenGettingConnection_thenShouldUsePrimary() throws SQLException {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = targetConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenGettingConnection_thenShouldUseReplica() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(clock.instant()).thenReturn(NOW);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // When
+        Connection connection = targetConnection();
+
+        // Then
+        assertSame(replicaConnection, connection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void givenClientPinnedAfterWrite_whenReadingInReadOnlyTransaction_thenShouldUsePrimary() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.pinToPrimary();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = targetConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void givenFailingReplica_whenReading_thenShouldFallBackToPrimaryUntilCooldownExpires() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plusSeconds(10), NOW.plusSeconds(31));
+        when(replica.getConnection())
+            .thenThrow(new SQLException("Connection refused"))
+            .thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection failedOver = targetConnection();
+        Connection duringCooldown = targetConnection();
+        Connection afterCooldown = targetConnection();
+
+        // Then
+        assertSame(primaryConnection, failedOver);
+        assertSame(primaryConnection, duringCooldown);
+        assertSame(replicaConnection, afterCooldown);
+        verify(replica, times(2)).getConnection();
+    }
+
+    private Connection targetConnection() throws SQLException {
+        return ((ConnectionProxy) dataSource.getConnection()).getTargetConnection();
+    }
+}
@@ -0,0 +1,157 @@
+package com.mango.products.infrastructure.streaming;
+
+import com.mango.products.domain.model.Price;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceStreamHubTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final int BUFFER_SIZE = 2;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new PriceStreamHub(meterRegistry, BUFFER_SIZE, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        hub.close();
+    }
+
+    @Test
+    void givenSubscribersOfSeveralProducts_whenPriceAdded_thenShouldPushItOnlyToThatProduct() throws InterruptedException {
+        // Given
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        RecordingSink otherProduct = new RecordingSink();
+        hub.subscribe(PRODUCT_ID, first);
+        hub.subscribe(PRODUCT_ID, second);
+        hub.subscribe(2L, otherProduct);
+        Price price = price(10L);
+
+        // When
+        hub.priceAdded(price);
+
+        // Then
+        assertSame(price, first.received.poll(5, TimeUnit.SECONDS));
+        assertSame(price, second.received.poll(5, TimeUnit.SECONDS));
+        assertNull(otherProduct.received.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(3, meterRegistry.get(PriceStreamHub.SUBSCRIBERS_METRIC).gauge().value());
+    }
+
+    @Test
+    void givenSlowSubscriber_whenItsBufferOverflows_thenShouldDisconnectOnlyIt() throws InterruptedException {
+        // Given
+        RecordingSink fast = new RecordingSink();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(Price price) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        hub.subscribe(PRODUCT_ID, fast);
+        hub.subscribe(PRODUCT_ID, slow);
+
+        // When: at most one price in flight plus a full buffer, then one more
+        for (long id = 1; id <= BUFFER_SIZE + 2; id++) {
+            hub.priceAdded(price(id));
+            assertEquals(id, fast.received.poll(5, TimeUnit.SECONDS).getId());
+        }
+
+        // Then
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get(PriceStreamHub.DISCONNECTED_METRIC).counter().count());
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(1, fast.closed.getCount());
+        release.countDown();
+    }
+
+    @Test
+    void givenPriceAddedInsideTransaction_whenCommitted_thenShouldPushOnlyAfterCommit() throws InterruptedException {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        hub.subscribe(PRODUCT_ID, sink);
+        TransactionSynchronizationManager.initSynchronization();
+        Price price = price(10L);
+
+        // When
+        hub.priceAdded(price);
+
+        // Then
+        assertNull(sink.received.poll(100, TimeUnit.MILLISECONDS));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertSame(price, sink.received.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenCancelledSubscription_whenPriceAdded_thenShouldNotPushItAndCloseOnce() throws InterruptedException {
+        // Given
+        RecordingSink sink = new RecordingSink();
+        PriceStreamHub.Subscription subscription = hub.subscribe(PRODUCT_ID, sink);
+
+        // When
+        subscription.cancel();
+        subscription.cancel();
+        hub.priceAdded(price(10L));
+
+        // Then
+        assertNull(sink.received.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, sink.closes);
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    private static Price price(Long id) {
+        return Price.of(id, PRODUCT_ID, BigDecimal.valueOf(10.99), Currency.getInstance("EUR"),
+            LocalDate.of(2025, 1, 1), null);
+    }
+
+    private static class RecordingSink implements PriceStreamHub.Sink {
+
+        final BlockingQueue<Price> received = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile int closes;
+
+        @Override
+        public void send(Price price) {
+            received.add(price);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closes++;
+            closed.countDown();
+        }
+    }
+}
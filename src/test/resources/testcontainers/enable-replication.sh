@@ -0,0 +1,3 @@
+#!/bin/sh
+# Lets a hot standby stream from this instance (wal_level=replica is already the default)
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"